@@ -12,6 +12,7 @@ import java.util.Scanner;
 public class Main {
 
     private static final String FILE_TYPE = ".ser";
+    private static final int MAX_SUGGESTIONS = 5;
 
     public static void main(String[] args) {
         Scanner in = new Scanner(System.in);
@@ -276,6 +277,7 @@ public class Main {
                 System.out.println("The grade has been submitted.");
             } catch (StudentDoesNotExist e) {
                 System.out.printf("Student %s does not exist!\n", id);
+                printSuggestions(subject, id);
             } catch (InvalidGrade e) {
                 System.out.println("Grades must range from 0 to 20!");
             } catch (InputMismatchException e ) {
@@ -322,13 +324,34 @@ public class Main {
             } catch (StudentDoesNotExist e){
                 if (studentId.isEmpty())
                     System.out.println("Usage: "+ Commands.CHECK.getUsage());
-                else
+                else {
                     System.out.printf("Student %s does not exist!\n", studentId);
+                    printSuggestions(subject, studentId);
+                }
             }
         } else
             System.out.println("Subject not defined!");
     }
 
+    /**
+     * Prints the first students whose name starts with what was typed, if there are any
+     * @param subject Current subject
+     * @param prefix Start of the student's name
+     */
+    private static void printSuggestions(Subject subject, String prefix) {
+        Iterator<String> it = Pipeline.of(subject.getStudentsByPrefix(prefix))
+                .limit(MAX_SUGGESTIONS + 1)
+                .map(StudentGetter::getName);
+        if (prefix.isEmpty() || !it.hasNext())
+            return;
+        StringBuilder suggestions = new StringBuilder(it.next());
+        for (int i = 1; i < MAX_SUGGESTIONS && it.hasNext(); i++)
+            suggestions.append(", ").append(it.next());
+        if (it.hasNext())
+            suggestions.append(", ...");
+        System.out.printf("Did you mean: %s?\n", suggestions);
+    }
+
     /**
      * Executes command List and analyzes the input
      * @param in Scanner in
@@ -357,16 +380,13 @@ public class Main {
         if (!itStudents.hasNext())
             System.out.println("There are no students.");
         else {
-            List<Object> list = new SinglyLinkedList<>();
+            List<Object> list = new ListInArray<>();
 
             Iterator<ComponentGetter> it1 = subject.getComponents();
             while (it1.hasNext()) {
                 ComponentGetter c = it1.next();
-                if (c.getAssignmentNumber() > 1) {
-                    Iterator<Assignment> it2 = c.getAssignments();
-                    while (it2.hasNext())
-                        list.addLast(it2.next());
-                }
+                if (c.getAssignmentNumber() > 1)
+                    list.addAll(c.getAssignments());
                 if (subject.getComponentCount() > 1)
                     list.addLast(c);
             }
@@ -427,8 +447,7 @@ public class Main {
 
         try {
             Assignment a = subject.getAssignment(assignment);
-            Predicate<StudentGetter> predicate = p-> p.getAssignmentGrade(a) != -1;
-            Iterator<StudentGetter> it = getStudentIterator(in, subject, predicate);
+            Iterator<StudentGetter> it = subject.getStudentsGradedIn(a, sortByNumber(in));
             if (!it.hasNext())
                 System.out.println("No students completed this assignment.");
             while (it.hasNext()){
@@ -450,14 +469,12 @@ public class Main {
     private static void executeExam(Scanner in, Subject subject)  {
         in.nextLine();
         if (subject.isSubjectDefined()){
-            Predicate<StudentGetter> predicate = p->!p.hasPassed() && p.hasAttendance();
-            Iterator<StudentGetter> it = getStudentIterator(in, subject, predicate);
+            Iterator<StudentGetter> it = subject.getExamStudents(sortByNumber(in));
             if (!it.hasNext())
                 System.out.println("No students registered for the exam.");
             while (it.hasNext()){
                 StudentGetter s = it.next();
-                if (s.hasAttendance() && !s.hasPassed())
-                    System.out.printf("%d %s\n", s.getNumber(), s.getName());
+                System.out.printf("%d %s\n", s.getNumber(), s.getName());
             }
         } else
             System.out.println("Subject not defined!");
@@ -471,16 +488,25 @@ public class Main {
      * @return requested iterator
      */
     private static Iterator<StudentGetter> getStudentIterator(Scanner in, Subject subject, Predicate<StudentGetter> predicate) {
-        Iterator<StudentGetter> it = null;
+        if (sortByNumber(in))
+            return subject.getStudentsById(predicate);
+        return subject.getStudentsByName(predicate);
+    }
+
+    /**
+     * Asks whether the students should be sorted by number or by alphabetic order
+     * @param in Scanner
+     * @return true to sort them by number, false by alphabetic order
+     */
+    private static boolean sortByNumber(Scanner in) {
         System.out.print("Do you prefer the sheet sorted by student number or by alphabetic order? N/A: ");
-        do{
+        while (true) {
             switch (in.nextLine().toUpperCase().trim()){
-                case "N", "NUMBER" -> it = subject.getStudentsById(predicate);
-                case "A", "NAME", "ALPHABETIC" -> it = subject.getStudentsByName(predicate);
+                case "N", "NUMBER" -> { return true; }
+                case "A", "NAME", "ALPHABETIC" -> { return false; }
                 default -> System.out.print("For number order write n or number, for alphabetic order write a, name or alphabetic: ");
             }
-        } while (it == null);
-        return it;
+        }
     }
 
     /**
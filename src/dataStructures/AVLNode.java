@@ -1,5 +1,7 @@
 package dataStructures;
 
+import java.io.Serial;
+
 /**
  * AVL Tree Node
  *
@@ -8,24 +10,35 @@ package dataStructures;
  */
 class AVLNode<E> extends BTNode<E> {
 
+    // Kept at the value computed before size was added, older saved nodes load with a size of 0
+    @Serial
+    private static final long serialVersionUID = 659279250342828218L;
+
     /**
      * Height of the node
      */
     protected int height;
 
+    /**
+     * Number of nodes of the subtree rooted at this node
+     */
+    protected int size;
+
     public AVLNode(E elem) {
         super(elem);
         height=0;
+        size=1;
     }
 
     public AVLNode( E element, AVLNode<E> parent,
                     AVLNode<E> left, AVLNode<E> right ){
         super(element, parent, left, right);
-        height = Math.max(height(left), height(right));
+        updateHeight();
     }
     public AVLNode( E element, AVLNode<E> parent){
         super(element, parent,null, null);
         height= 0;
+        size=1;
     }
 
     /**
@@ -42,6 +55,21 @@ class AVLNode<E> extends BTNode<E> {
         return height;
     }
 
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @param no node
+     * @return number of nodes of the subtree rooted at the node
+     */
+    static int size(Node<?> no) {
+        if (no==null)	return 0;
+        return ((AVLNode<?>) no).size;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
     /**
      * Time complexity: O(1) (constant)
      *
@@ -67,10 +95,11 @@ class AVLNode<E> extends BTNode<E> {
     /**
      * Time complexity: O(1) (constant)
      *
-     * Updates the height of the node
+     * Updates the height and the size of the node from its children
      * @return new height
      */
     public int updateHeight() {
+        size = 1 + size(getLeftChild()) + size(getRightChild());
         if (getRightChild()==null && getLeftChild()==null)
             height = 0;
         else {
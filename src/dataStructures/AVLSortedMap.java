@@ -1,7 +1,13 @@
 package dataStructures;
 
+import dataStructures.exceptions.InvalidPositionException;
+
+import java.io.Serial;
+import java.util.Spliterator;
+
 /**
  * AVL Tree Sorted Map
+ * Every node keeps the size of its subtree, so positions in the key order are found in O(log n).
  *
  * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
  * @param <K> Generic Key
@@ -9,9 +15,46 @@ package dataStructures;
  */
 public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V>{
 
+    @Serial
+    private static final long serialVersionUID = 752804842096489787L;
+
+    /**
+     * Constructors
+     */
+
+    public AVLSortedMap(){
+        super();
+    }
+
     /**
      * Time complexity: O(n) (linear)
      *
+     * Builds a perfectly balanced tree with the entries, without comparing any keys
+     * @param sorted entries in ascending order of their keys, with no repeated keys
+     * @param size number of entries
+     */
+    public AVLSortedMap(Iterator<Entry<K,V>> sorted, int size){
+        super();
+        build(sorted, size);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Makes the node of a built tree, with its height and size computed from its children
+     * @param entry entry of the node
+     * @param left left child, already built
+     * @param right right child, already built
+     * @return the node
+     */
+    @Override
+    protected BTNode<Entry<K,V>> newNode(Entry<K,V> entry, BTNode<Entry<K,V>> left, BTNode<Entry<K,V>> right) {
+        return new AVLNode<>(entry, null, (AVLNode<Entry<K,V>>) left, (AVLNode<Entry<K,V>>) right);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
      * Adds a new node into the tree
      * @param key key
      * @param value value
@@ -20,74 +63,142 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
     public V put(K key, V value) {
         Entry<K,V> entry = new Entry<>(key,value);
         AVLNode<Entry<K,V>> newNode = new AVLNode<>(entry);
+        int size = currentSize;
         V oldValue = addNode(newNode);
-        if (oldValue != null)
-            return oldValue;
-        AVLNode<Entry<K,V>> z = (AVLNode<Entry<K, V>>) newNode.getParent();
-        rebalance(z);
-        return null;
+        if (currentSize != size) {
+            AVLNode<Entry<K,V>> parent = (AVLNode<Entry<K, V>>) newNode.getParent();
+            updateSizes(parent, 1);
+            rebalance(parent);
+        }
+        return oldValue;
     }
 
     /**
-     * Time complexity: O(n) (linear)
+     * Time complexity: O(log n)
      *
-     * Removes a node of the tree
+     * Removes a node of the tree, rebalancing from the parent of the node unlinked
      * @param key whose entry is to be removed from the map
      * @return value of the removed node or null
      */
     public V remove(K key) {
-        AVLNode<Entry<K,V>> node= (AVLNode<Entry<K, V>>) getNode((BTNode<Entry<K, V>>) root, key);
-        if (node==null)
+        BTNode<Entry<K,V>> node = findNode(key);
+        if (node == null)
             return null;
-        AVLNode<Entry<K,V>> parent = (AVLNode<Entry<K,V>>)node.getParent();
-        super.remove(key);
-        if (parent!=null)
-            rebalance(parent);
-        else
-            rebalance((AVLNode<Entry<K, V>>) root);
-        return node.getElement().value();
+        V oldValue = node.getElement().value();
+        AVLNode<Entry<K,V>> parent = (AVLNode<Entry<K, V>>) removeNode(node);
+        updateSizes(parent, -1);
+        rebalance(parent);
+        return oldValue;
     }
 
     /**
-     *  Time complexity: O(n) (linear)
+     * Time complexity: O(log n)
      *
-     * Rebalance the tree
-     * @param z root of the subtree
+     * Adds the difference to the size of the node and of all its ancestors
+     * @param node lowest node whose subtree changed
+     * @param difference number of nodes added to or removed from the subtree
+     */
+    private void updateSizes(AVLNode<Entry<K,V>> node, int difference) {
+        while (node != null) {
+            node.size += difference;
+            node = (AVLNode<Entry<K, V>>) node.getParent();
+        }
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the number of keys in the dictionary smaller than the specified key,
+     * which is the position of its entry in the iteration if there is one.
+     * @param key key
+     * @return number of smaller keys
+     */
+    @Override
+    public int rank(K key) {
+        int rank = 0;
+        BTNode<Entry<K,V>> node = (BTNode<Entry<K,V>>) root;
+        while (node != null) {
+            int comp = key.compareTo(node.getElement().key());
+            if (comp <= 0) {
+                if (comp == 0)
+                    return rank + AVLNode.size(node.getLeftChild());
+                node = (BTNode<Entry<K,V>>) node.getLeftChild();
+            } else {
+                rank += AVLNode.size(node.getLeftChild()) + 1;
+                node = (BTNode<Entry<K,V>>) node.getRightChild();
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry in the specified position of the iteration, starting at 0.
+     * @param position position of the entry
+     * @return the entry in that position
+     * @throws InvalidPositionException - if the position is not between 0 and size - 1
+     */
+    @Override
+    public Entry<K, V> select(int position) {
+        if (position < 0 || position >= currentSize)
+            throw new InvalidPositionException();
+        BTNode<Entry<K,V>> node = (BTNode<Entry<K,V>>) root;
+        while (true) {
+            int leftSize = AVLNode.size(node.getLeftChild());
+            if (position < leftSize)
+                node = (BTNode<Entry<K,V>>) node.getLeftChild();
+            else if (position == leftSize)
+                return node.getElement();
+            else {
+                position -= leftSize + 1;
+                node = (BTNode<Entry<K,V>>) node.getRightChild();
+            }
+        }
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns a spliterator of the entries in the dictionary, in ascending order of their keys,
+     * splitting the tree into subtrees.
+     * @return spliterator of the entries
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new AVLSpliterator<>(null, (BTNode<Entry<K,V>>) root);
+    }
+
+    /**
+     *  Time complexity: O(log n)
+     *
+     * Walks up from the given node updating heights and restructuring unbalanced nodes,
+     * until a subtree keeps the height it had before the update.
+     * @param z lowest node whose subtree changed
      */
     private void rebalance(AVLNode<Entry<K,V>> z) {
-        if (z != null){
-            boolean found = false;
-            do{
-                AVLNode<Entry<K,V>> parent = null;
-                int parentHeight =0;
-                if (!z.isRoot()){
-                    parent = (AVLNode<Entry<K, V>>) z.getParent();
-                    parentHeight = parent.getHeight();
-                } else
-                    found = true;
-                z.updateHeight();
-                if (!z.isBalanced()){
-                    rebalanceAndUpdateHeight(z);
-                }
-                if (parent != null){
-                    if (parentHeight == parent.updateHeight())
-                        found = true;
-                    else
-                        z = parent;
-                }
-            } while (!found);
+        while (z != null) {
+            int oldHeight = z.getHeight();
+            z.updateHeight();
+            if (!z.isBalanced())
+                z = rebalanceAndUpdateHeight(z);
+            if (z.getHeight() == oldHeight)
+                return;
+            z = (AVLNode<Entry<K, V>>) z.getParent();
         }
     }
 
     /**
-     * Time complexity: O(n) (linear)
+     * Time complexity: O(1) (constant)
      *
      * Makes the rebalence and updates the heights of the nodes
      * @param z root of the subtree
+     * @return the new root of the subtree
      */
-    private void rebalanceAndUpdateHeight(AVLNode<Entry<K,V>> z) {
-        AVLNode<Entry<K,V>> y = getBiggerTree(z);
-        AVLNode<Entry<K,V>> x = getBiggerTree(y);
+    private AVLNode<Entry<K,V>> rebalanceAndUpdateHeight(AVLNode<Entry<K,V>> z) {
+        AVLNode<Entry<K,V>> y = getBiggerTree(z, true);
+        // on a tie a single rotation is enough, so x is taken on the same side as y
+        AVLNode<Entry<K,V>> x = getBiggerTree(y, y == z.getLeftChild());
         AVLNode<Entry<K,V>> newRoot = (AVLNode<Entry<K, V>>) restructure(x);
         if (newRoot == y){
             x.updateHeight();
@@ -98,15 +209,17 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
             y.updateHeight();
             x.updateHeight();
         }
+        return newRoot;
     }
 
     /**
-     * Time complexity: O(n) (linear)
+     * Time complexity: O(1) (constant)
      *
      * @param z root of the subtree
-     * @return the child of the subtree
+     * @param preferLeft true if the left child is returned when both children have the same height
+     * @return the child of the subtree with the biggest height
      */
-    private AVLNode<Entry<K,V>> getBiggerTree(AVLNode<Entry<K,V>> z){
+    private AVLNode<Entry<K,V>> getBiggerTree(AVLNode<Entry<K,V>> z, boolean preferLeft){
         if (z == null || z.getLeftChild() == null && z.getRightChild() == null)
             return null;
         if (z.getLeftChild() == null && z.getRightChild() != null)
@@ -114,11 +227,12 @@ public class AVLSortedMap <K extends Comparable<K>,V> extends AdvancedBSTree<K,V
         if (z.getRightChild() == null && z.getLeftChild() != null)
             return (AVLNode<Entry<K, V>>) z.getLeftChild();
         AVLNode<Entry<K,V>> y;
-        if (((AVLNode<Entry<K,V>>)z.getLeftChild()).getHeight() >
-                ((AVLNode<Entry<K,V>>)z.getRightChild()).getHeight())
+        int leftHeight = ((AVLNode<Entry<K,V>>)z.getLeftChild()).getHeight();
+        int rightHeight = ((AVLNode<Entry<K,V>>)z.getRightChild()).getHeight();
+        if (leftHeight > rightHeight || leftHeight == rightHeight && preferLeft)
             y = (AVLNode<Entry<K,V>>)z.getLeftChild();
         else
             y = (AVLNode<Entry<K,V>>)z.getRightChild();
         return y;
     }
-}
\ No newline at end of file
+}
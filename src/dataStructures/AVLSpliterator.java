@@ -0,0 +1,113 @@
+package dataStructures;
+
+import dataStructures.Map.Entry;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * AVL Tree Spliterator of entries, in ascending order of their keys
+ * Covers a node followed by a subtree. A split hands over the left subtree, keeping
+ * the root of the subtree and its right subtree, so both halves keep the same shape.
+ * Each node knows the size of its subtree, so every half knows its exact size.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class AVLSpliterator<K,V> implements Spliterator<Entry<K,V>> {
+
+    /**
+     * Node before the subtree, null if there is none
+     */
+    private BTNode<Entry<K,V>> pending;
+
+    /**
+     * Subtree after the pending node, null if there is none
+     */
+    private BTNode<Entry<K,V>> subtree;
+
+    /**
+     * Number of entries left
+     */
+    private int remaining;
+
+    /**
+     * In-order traversal, null until the first entry is taken
+     */
+    private Iterator<Entry<K,V>> traversal;
+
+    /**
+     * @param pending node before the subtree, null if there is none
+     * @param subtree subtree after the pending node, null if there is none
+     */
+    AVLSpliterator(BTNode<Entry<K,V>> pending, BTNode<Entry<K,V>> subtree) {
+        this.pending = pending;
+        this.subtree = subtree;
+        this.remaining = (pending == null ? 0 : 1) + AVLNode.size(subtree);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Starts the traversal at the pending node or at the leftmost node of the subtree.
+     * The traversal follows parent links, so it only stops by counting the entries.
+     */
+    private void start() {
+        BTNode<Entry<K,V>> first = pending != null ? pending
+                : subtree == null ? null : subtree.furtherLeftElement();
+        traversal = new InOrderIterator<>(first, false);
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     *
+     * Gives the next entry to the action.
+     * @return false if there were no more entries
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super Entry<K,V>> action) {
+        if (remaining == 0)
+            return false;
+        if (traversal == null)
+            start();
+        remaining--;
+        action.accept(traversal.next());
+        return true;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Hands over the pending node and the left subtree, keeping the root of the subtree
+     * as the new pending node before its right subtree.
+     * @return spliterator of the first part, null if the traversal started or the subtree has no left child
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Spliterator<Entry<K,V>> trySplit() {
+        if (traversal != null || subtree == null || subtree.getLeftChild() == null)
+            return null;
+        Spliterator<Entry<K,V>> prefix =
+                new AVLSpliterator<>(pending, (BTNode<Entry<K,V>>) subtree.getLeftChild());
+        pending = subtree;
+        subtree = (BTNode<Entry<K,V>>) subtree.getRightChild();
+        remaining = 1 + AVLNode.size(subtree);
+        return prefix;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return exact number of entries left
+     */
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+    }
+}
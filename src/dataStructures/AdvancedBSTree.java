@@ -1,5 +1,7 @@
 package dataStructures;
 
+import java.io.Serial;
+
 /**
  * Advanced Binary Search Tree
  *
@@ -9,6 +11,9 @@ package dataStructures;
  */
 abstract class AdvancedBSTree <K extends Comparable<K>,V> extends BSTSortedMap<K,V>{
 
+    @Serial
+    private static final long serialVersionUID = -1196069686078317688L;
+
     /**
      * Time complexity: O(1) (constant)
      *
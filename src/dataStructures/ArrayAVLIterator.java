@@ -0,0 +1,96 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * In-order Array AVL Tree iterator of entries, keys or values
+ * May start at any node and go in descending order.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class ArrayAVLIterator<E> implements Iterator<E> {
+
+    /**
+     * Tree to iterate
+     */
+    private final ArrayAVLSortedMap<?,?> tree;
+
+    /**
+     * What to return, ENTRIES, KEYS or VALUES
+     */
+    private final int kind;
+
+    /**
+     * Node with the first element, NIL if there is none
+     */
+    private final int first;
+
+    /**
+     * True if the iteration is in descending order
+     */
+    private final boolean descending;
+
+    /**
+     * Node with the next element, NIL if there is none
+     */
+    private int next;
+
+    public ArrayAVLIterator(ArrayAVLSortedMap<?,?> tree, int kind) {
+        this(tree, kind, tree.first(), false);
+    }
+
+    /**
+     * @param tree tree to iterate
+     * @param kind ENTRIES, KEYS or VALUES
+     * @param first node with the first element, NIL for an empty iteration
+     * @param descending true to iterate in descending order
+     */
+    public ArrayAVLIterator(ArrayAVLSortedMap<?,?> tree, int kind, int first, boolean descending) {
+        this.tree = tree;
+        this.kind = kind;
+        this.first = first;
+        this.descending = descending;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return next != ArrayAVLSortedMap.NIL;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        E elem = (E) tree.element(next, kind);
+        next = descending ? tree.predecessor(next) : tree.successor(next);
+        return elem;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @Override
+    public void rewind() {
+        next = first;
+    }
+}
@@ -0,0 +1,839 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyMapException;
+import dataStructures.exceptions.InvalidPositionException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.Spliterator;
+
+/**
+ * Array AVL Tree Sorted Map
+ * The nodes are positions of parallel arrays, linked by their indexes instead of references,
+ * so the whole tree lives in a few arrays. The positions of removed nodes are reused by the
+ * following insertions, so once the arrays have grown no node is allocated.
+ * Every node keeps the size of its subtree, so positions in the key order are found in O(log n).
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class ArrayAVLSortedMap<K extends Comparable<K>,V> implements SortedMap<K,V> {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    static final int DEFAULT_CAPACITY = 50;
+    static final int GROWTH_FACTOR = 2;
+
+    // Index of the missing node, position 0 of the arrays is never used
+    static final int NIL = 0;
+
+    // What an iterator returns
+    static final int ENTRIES = 0;
+    static final int KEYS = 1;
+    static final int VALUES = 2;
+
+    /**
+     * Key of each node
+     */
+    private transient Object[] keys;
+
+    /**
+     * Value of each node
+     */
+    private transient Object[] values;
+
+    /**
+     * Left child of each node, NIL if it has none. For free positions, the next free position.
+     */
+    private transient int[] left;
+
+    /**
+     * Right child of each node, NIL if it has none
+     */
+    private transient int[] right;
+
+    /**
+     * Parent of each node, NIL for the root
+     */
+    private transient int[] parent;
+
+    /**
+     * Height of each node counting its own level, so a leaf has height 1 and NIL height 0
+     */
+    private transient byte[] height;
+
+    /**
+     * Number of nodes of the subtree rooted at each node, 0 for NIL
+     */
+    private transient int[] sizes;
+
+    /**
+     * Root node
+     */
+    private transient int root;
+
+    /**
+     * First free position reused by insertions, NIL if there is none
+     */
+    private transient int free;
+
+    /**
+     * Number of positions ever used, including free ones
+     */
+    private transient int used;
+
+    /**
+     * Number of entries in the tree
+     */
+    private transient int currentSize;
+
+    /**
+     * Constructors
+     */
+
+    public ArrayAVLSortedMap( ){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayAVLSortedMap( int capacity ){
+        createTree(Math.max(capacity, 1) + 1);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Builds a perfectly balanced tree with the entries, without comparing any keys
+     * @param sorted entries in ascending order of their keys, with no repeated keys
+     * @param size number of entries
+     */
+    public ArrayAVLSortedMap( Iterator<Entry<K,V>> sorted, int size ){
+        createTree(Math.max(size, 1) + 1);
+        for (int node = 1; node <= size; node++) {
+            Entry<K,V> entry = sorted.next();
+            keys[node] = entry.key();
+            values[node] = entry.value();
+        }
+        build(size);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Links the first positions of the arrays, already holding the entries in ascending order,
+     * into a perfectly balanced tree. Nodes follow the order of their keys in the arrays,
+     * so in-order iterations walk the arrays from the start.
+     * @param size number of entries
+     */
+    private void build(int size) {
+        used = size + 1;
+        currentSize = size;
+        root = buildTree(1, size, NIL);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * @param first position of the smallest key of the subtree
+     * @param last position of the largest key of the subtree
+     * @param nodeParent parent of the subtree
+     * @return root of the subtree, NIL if it is empty
+     */
+    private int buildTree(int first, int last, int nodeParent) {
+        if (first > last)
+            return NIL;
+        int node = (first + last) >>> 1;
+        parent[node] = nodeParent;
+        left[node] = buildTree(first, node - 1, node);
+        right[node] = buildTree(node + 1, last, node);
+        updateHeight(node);
+        return node;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Allocates an empty tree with the given number of positions
+     * @param length length of the arrays
+     */
+    private void createTree(int length) {
+        keys = new Object[length];
+        values = new Object[length];
+        left = new int[length];
+        right = new int[length];
+        parent = new int[length];
+        height = new byte[length];
+        sizes = new int[length];
+        root = NIL;
+        free = NIL;
+        used = 1;
+        currentSize = 0;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Copies the arrays to arrays with the given length
+     * @param length new length of the arrays
+     */
+    private void resize(int length) {
+        Object[] newKeys = new Object[length];
+        Object[] newValues = new Object[length];
+        int[] newLeft = new int[length];
+        int[] newRight = new int[length];
+        int[] newParent = new int[length];
+        byte[] newHeight = new byte[length];
+        int[] newSizes = new int[length];
+        System.arraycopy(keys, 0, newKeys, 0, used);
+        System.arraycopy(values, 0, newValues, 0, used);
+        System.arraycopy(left, 0, newLeft, 0, used);
+        System.arraycopy(right, 0, newRight, 0, used);
+        System.arraycopy(parent, 0, newParent, 0, used);
+        System.arraycopy(height, 0, newHeight, 0, used);
+        System.arraycopy(sizes, 0, newSizes, 0, used);
+        keys = newKeys;
+        values = newValues;
+        left = newLeft;
+        right = newRight;
+        parent = newParent;
+        height = newHeight;
+        sizes = newSizes;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     *
+     * Takes a free position for a new leaf, growing the arrays if there is none
+     * @return index of the new node
+     */
+    private int newNode(K key, V value, int nodeParent) {
+        int node;
+        if (free != NIL) {
+            node = free;
+            free = left[node];
+        } else {
+            if (used == keys.length)
+                resize(keys.length * GROWTH_FACTOR);
+            node = used++;
+        }
+        keys[node] = key;
+        values[node] = value;
+        left[node] = NIL;
+        right[node] = NIL;
+        parent[node] = nodeParent;
+        height[node] = 1;
+        sizes[node] = 1;
+        return node;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Clears the node and adds its position to the free positions
+     * @param node index of the removed node
+     */
+    private void freeNode(int node) {
+        keys[node] = null;
+        values[node] = null;
+        left[node] = free;
+        free = node;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    @Override
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry with the smallest key in the dictionary.
+     * @return the min entry
+     * @throws EmptyMapException -> if size = 0
+     */
+    @Override
+    public Entry<K, V> minEntry() {
+        if (isEmpty())
+            throw new EmptyMapException();
+        return entry(first());
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry with the largest key in the dictionary.
+     * @return the max entry
+     * @throws EmptyMapException -> if size = 0
+     */
+    @Override
+    public Entry<K, V> maxEntry() {
+        if (isEmpty())
+            throw new EmptyMapException();
+        return entry(last());
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Descends from the root, comparing the key once per level.
+     * @param key key
+     * @return the node with the specific key, or NIL if there is none
+     */
+    @SuppressWarnings("unchecked")
+    private int findNode(K key) {
+        int node = root;
+        while (node != NIL) {
+            int comp = key.compareTo((K) keys[node]);
+            if (comp == 0)
+                return node;
+            node = comp < 0 ? left[node] : right[node];
+        }
+        return NIL;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int node = findNode(key);
+        if (node == NIL)
+            return null;
+        return (V) values[node];
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int nodeParent = NIL;
+        int node = root;
+        int comp = 0;
+        while (node != NIL) {
+            comp = key.compareTo((K) keys[node]);
+            if (comp == 0) {
+                V oldValue = (V) values[node];
+                values[node] = value;
+                return oldValue;
+            }
+            nodeParent = node;
+            node = comp < 0 ? left[node] : right[node];
+        }
+        node = newNode(key, value, nodeParent);
+        if (nodeParent == NIL)
+            root = node;
+        else if (comp < 0)
+            left[nodeParent] = node;
+        else
+            right[nodeParent] = node;
+        currentSize++;
+        updateSizes(nodeParent, 1);
+        rebalance(nodeParent);
+        return null;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * A node with both children takes the entry of its successor,
+     * and the successor, which has no left child, is unlinked instead.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int node = findNode(key);
+        if (node == NIL)
+            return null;
+        V oldValue = (V) values[node];
+        if (left[node] != NIL && right[node] != NIL) {
+            int successor = right[node];
+            while (left[successor] != NIL)
+                successor = left[successor];
+            keys[node] = keys[successor];
+            values[node] = values[successor];
+            node = successor;
+        }
+        int nodeParent = parent[node];
+        int child = left[node] != NIL ? left[node] : right[node];
+        if (child != NIL)
+            parent[child] = nodeParent;
+        replaceChild(nodeParent, node, child);
+        freeNode(node);
+        currentSize--;
+        updateSizes(nodeParent, -1);
+        rebalance(nodeParent);
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Adds the difference to the size of the node and of all its ancestors
+     * @param node lowest node whose subtree changed
+     * @param difference number of nodes added to or removed from the subtree
+     */
+    private void updateSizes(int node, int difference) {
+        while (node != NIL) {
+            sizes[node] += difference;
+            node = parent[node];
+        }
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the number of keys in the dictionary smaller than the specified key,
+     * which is the position of its entry in the iteration if there is one.
+     * @param key key
+     * @return number of smaller keys
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int rank(K key) {
+        int rank = 0;
+        int node = root;
+        while (node != NIL) {
+            int comp = key.compareTo((K) keys[node]);
+            if (comp <= 0) {
+                if (comp == 0)
+                    return rank + sizes[left[node]];
+                node = left[node];
+            } else {
+                rank += sizes[left[node]] + 1;
+                node = right[node];
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry in the specified position of the iteration, starting at 0.
+     * @param position position of the entry
+     * @return the entry in that position
+     * @throws InvalidPositionException - if the position is not between 0 and size - 1
+     */
+    @Override
+    public Entry<K, V> select(int position) {
+        if (position < 0 || position >= currentSize)
+            throw new InvalidPositionException();
+        return entry(nodeAt(position));
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @param position position in the key order, between 0 and size - 1
+     * @return node in that position
+     */
+    int nodeAt(int position) {
+        int node = root;
+        while (position != sizes[left[node]]) {
+            if (position < sizes[left[node]])
+                node = left[node];
+            else {
+                position -= sizes[left[node]] + 1;
+                node = right[node];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Links the new child where the old child was
+     * @param nodeParent parent of the old child, NIL if it was the root
+     * @param oldChild child being replaced
+     * @param newChild child taking its place
+     */
+    private void replaceChild(int nodeParent, int oldChild, int newChild) {
+        if (nodeParent == NIL)
+            root = newChild;
+        else if (left[nodeParent] == oldChild)
+            left[nodeParent] = newChild;
+        else
+            right[nodeParent] = newChild;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Recomputes the height and the size of the node from its children
+     */
+    private void updateHeight(int node) {
+        height[node] = (byte) (1 + Math.max(height[left[node]], height[right[node]]));
+        sizes[node] = 1 + sizes[left[node]] + sizes[right[node]];
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Performs a single left rotation rooted at z node.
+     * @param z - root of the rotation
+     * @return the new root of the rotated subtree
+     * @pre: z has a right child
+     */
+    private int rotateLeft(int z) {
+        int y = right[z];
+        int yChild = left[y];
+        right[z] = yChild;
+        if (yChild != NIL)
+            parent[yChild] = z;
+        parent[y] = parent[z];
+        replaceChild(parent[z], z, y);
+        left[y] = z;
+        parent[z] = y;
+        updateHeight(z);
+        updateHeight(y);
+        return y;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Performs a single right rotation rooted at z node.
+     * @param z - root of the rotation
+     * @return the new root of the rotated subtree
+     * @pre: z has a left child
+     */
+    private int rotateRight(int z) {
+        int y = left[z];
+        int yChild = right[y];
+        left[z] = yChild;
+        if (yChild != NIL)
+            parent[yChild] = z;
+        parent[y] = parent[z];
+        replaceChild(parent[z], z, y);
+        right[y] = z;
+        parent[z] = y;
+        updateHeight(z);
+        updateHeight(y);
+        return y;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Walks up from the given node updating heights and rotating unbalanced nodes,
+     * until a subtree keeps the height it had before the update.
+     * @param z lowest node whose subtree changed
+     */
+    private void rebalance(int z) {
+        while (z != NIL) {
+            int oldHeight = height[z];
+            updateHeight(z);
+            int balance = height[left[z]] - height[right[z]];
+            if (balance > 1) {
+                if (height[left[left[z]]] < height[right[left[z]]])
+                    rotateLeft(left[z]);
+                z = rotateRight(z);
+            } else if (balance < -1) {
+                if (height[right[right[z]]] < height[left[right[z]]])
+                    rotateRight(right[z]);
+                z = rotateLeft(z);
+            }
+            if (height[z] == oldHeight)
+                return;
+            z = parent[z];
+        }
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @return node with the smallest key, NIL if the tree is empty
+     */
+    int first() {
+        int node = root;
+        if (node != NIL) {
+            while (left[node] != NIL)
+                node = left[node];
+        }
+        return node;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @return node with the largest key, NIL if the tree is empty
+     */
+    int last() {
+        int node = root;
+        if (node != NIL) {
+            while (right[node] != NIL)
+                node = right[node];
+        }
+        return node;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @param key key
+     * @return node with the smallest key not smaller than the specified key, NIL if there is none
+     */
+    @SuppressWarnings("unchecked")
+    private int ceiling(K key) {
+        int ceiling = NIL;
+        int node = root;
+        while (node != NIL) {
+            int comp = key.compareTo((K) keys[node]);
+            if (comp == 0)
+                return node;
+            if (comp < 0) {
+                ceiling = node;
+                node = left[node];
+            } else
+                node = right[node];
+        }
+        return ceiling;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @param key key
+     * @return node with the largest key not larger than the specified key, NIL if there is none
+     */
+    @SuppressWarnings("unchecked")
+    private int floor(K key) {
+        int floor = NIL;
+        int node = root;
+        while (node != NIL) {
+            int comp = key.compareTo((K) keys[node]);
+            if (comp == 0)
+                return node;
+            if (comp > 0) {
+                floor = node;
+                node = right[node];
+            } else
+                node = left[node];
+        }
+        return floor;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(log n)
+     *
+     * @param node a node of the tree
+     * @return node with the previous key, NIL if the node has the smallest key
+     */
+    int predecessor(int node) {
+        if (left[node] != NIL) {
+            node = left[node];
+            while (right[node] != NIL)
+                node = right[node];
+            return node;
+        }
+        int nodeParent = parent[node];
+        while (nodeParent != NIL && node == left[nodeParent]) {
+            node = nodeParent;
+            nodeParent = parent[node];
+        }
+        return nodeParent;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(log n)
+     *
+     * @param node a node of the tree
+     * @return node with the next key, NIL if the node has the largest key
+     */
+    int successor(int node) {
+        if (right[node] != NIL) {
+            node = right[node];
+            while (left[node] != NIL)
+                node = left[node];
+            return node;
+        }
+        int nodeParent = parent[node];
+        while (nodeParent != NIL && node == right[nodeParent]) {
+            node = nodeParent;
+            nodeParent = parent[node];
+        }
+        return nodeParent;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @param node a node of the tree
+     * @param kind ENTRIES, KEYS or VALUES
+     * @return the entry, key or value of the node
+     */
+    Object element(int node, int kind) {
+        if (kind == KEYS)
+            return keys[node];
+        if (kind == VALUES)
+            return values[node];
+        return entry(node);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return entry of the node
+     */
+    @SuppressWarnings("unchecked")
+    private Entry<K,V> entry(int node) {
+        return new Entry<>((K) keys[node], (V) values[node]);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns an iterator of the entries in the dictionary.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new ArrayAVLIterator<>(this, ENTRIES);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries whose keys are not smaller than the specified key,
+     * in ascending order. The iteration starts at the node found by one descent.
+     * @param from smallest key to iterate
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> tailIterator(K from) {
+        return new ArrayAVLIterator<>(this, ENTRIES, ceiling(from), false);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries in the dictionary, in descending order.
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator() {
+        return new ArrayAVLIterator<>(this, ENTRIES, last(), true);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries whose keys are not larger than the specified key,
+     * in descending order. The iteration starts at the node found by one descent.
+     * @param from largest key to iterate
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator(K from) {
+        return new ArrayAVLIterator<>(this, ENTRIES, floor(from), true);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns a spliterator of the entries in the dictionary, in ascending order of their keys,
+     * splitting the range of positions into halves.
+     * @return spliterator of the entries
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new ArrayAVLSpliterator<>(this, 0, currentSize);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    public Iterator<V> values() {
+        return new ArrayAVLIterator<>(this, VALUES);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    public Iterator<K> keys() {
+        return new ArrayAVLIterator<>(this, KEYS);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(currentSize);
+        for (int node = first(); node != NIL; node = successor(node)) {
+            oos.writeObject(keys[node]);
+            oos.writeObject(values[node]);
+        }
+        oos.flush();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        int size = ois.readInt();
+        createTree(Math.max(size, 1) + 1);
+        // the entries were saved in order, so the tree is rebuilt balanced in linear time
+        for (int node = 1; node <= size; node++) {
+            keys[node] = ois.readObject();
+            values[node] = ois.readObject();
+        }
+        build(size);
+    }
+}
@@ -0,0 +1,99 @@
+package dataStructures;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Array AVL Tree Spliterator of entries, in ascending order of their keys
+ * Covers a range of positions of the key order. Each node knows the size of its subtree,
+ * so the node in any position is found by one descent, and a split hands over
+ * the first half of the positions with both halves knowing their exact size.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class ArrayAVLSpliterator<E> implements Spliterator<E> {
+
+    /**
+     * Tree to traverse
+     */
+    private final ArrayAVLSortedMap<?,?> tree;
+
+    /**
+     * Position of the next entry
+     */
+    private int position;
+
+    /**
+     * Position after the range
+     */
+    private final int fence;
+
+    /**
+     * Node of the next entry, NIL until the first entry is taken
+     */
+    private int next;
+
+    /**
+     * @param tree tree to traverse
+     * @param position position of the first entry
+     * @param fence position after the range
+     */
+    ArrayAVLSpliterator(ArrayAVLSortedMap<?,?> tree, int position, int fence) {
+        this.tree = tree;
+        this.position = position;
+        this.fence = fence;
+        this.next = ArrayAVLSortedMap.NIL;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized, O(log n) for the first entry
+     *
+     * Gives the next entry to the action.
+     * @return false if there were no more entries
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (position >= fence)
+            return false;
+        if (next == ArrayAVLSortedMap.NIL)
+            next = tree.nodeAt(position);
+        E elem = (E) tree.element(next, ArrayAVLSortedMap.ENTRIES);
+        position++;
+        next = position < fence ? tree.successor(next) : ArrayAVLSortedMap.NIL;
+        action.accept(elem);
+        return true;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Hands over the first half of the positions left.
+     * @return spliterator of the first half, null if the traversal started or there are too few entries
+     */
+    @Override
+    public Spliterator<E> trySplit() {
+        int middle = (position + fence) >>> 1;
+        if (next != ArrayAVLSortedMap.NIL || position >= middle)
+            return null;
+        Spliterator<E> prefix = new ArrayAVLSpliterator<>(tree, position, middle);
+        position = middle;
+        return prefix;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return exact number of entries left
+     */
+    @Override
+    public long estimateSize() {
+        return fence - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+    }
+}
@@ -0,0 +1,84 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Iterator of the double values of an array whose empty cells have a null key
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ */
+class ArrayDoubleIterator implements DoubleIterator {
+
+    /**
+     * Keys of the array, used to find the used cells
+     */
+    private final Object[] keys;
+
+    /**
+     * Values of the array
+     */
+    private final double[] values;
+
+    /**
+     * Number of values to return
+     */
+    private final int counter;
+
+    /**
+     * Number of values returned
+     */
+    private int current;
+
+    /**
+     * Next cell to visit
+     */
+    private int index;
+
+    public ArrayDoubleIterator(Object[] keys, double[] values, int counter) {
+        this.keys = keys;
+        this.values = values;
+        this.counter = counter;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if nextDouble would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return current < counter;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     * Returns the next value in the iteration.
+     *
+     * @return the next value in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    public double nextDouble() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        while (keys[index] == null)
+            index++;
+        current++;
+        return values[index++];
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, nextDouble will return the first element.
+     */
+    @Override
+    public void rewind() {
+        current = 0;
+        index = 0;
+    }
+}
@@ -0,0 +1,80 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Array Hash Table Iterator of entries
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class ArrayHashEntryIterator<K,V> implements Iterator<Map.Entry<K,V>> {
+
+    /**
+     * Keys of the table
+     */
+    private final Object[] keys;
+
+    /**
+     * Values of the table
+     */
+    private final Object[] values;
+
+    /**
+     * Number of entries to return
+     */
+    private final int counter;
+
+    /**
+     * Number of entries returned
+     */
+    private int current;
+
+    /**
+     * Next cell to visit
+     */
+    private int index;
+
+    public ArrayHashEntryIterator(Object[] keys, Object[] values, int counter) {
+        this.keys = keys;
+        this.values = values;
+        this.counter = counter;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     */
+    @Override
+    public void rewind() {
+        current = 0;
+        index = 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     */
+    @Override
+    public boolean hasNext() {
+        return current < counter;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map.Entry<K,V> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        Object k;
+        do {
+            k = keys[index++];
+        } while (k == null || k == ArrayHashTable.REMOVED_KEY);
+        current++;
+        return new Map.Entry<>((K) k, (V) values[index - 1]);
+    }
+}
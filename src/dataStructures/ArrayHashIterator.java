@@ -0,0 +1,79 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Array Hash Table Iterator of keys or values
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class ArrayHashIterator<E> implements Iterator<E> {
+
+    /**
+     * Keys of the table, used to find the used cells
+     */
+    private final Object[] keys;
+
+    /**
+     * Elements to return, keys or values of the table
+     */
+    private final Object[] elems;
+
+    /**
+     * Number of elements to return
+     */
+    private final int counter;
+
+    /**
+     * Number of elements returned
+     */
+    private int current;
+
+    /**
+     * Next cell to visit
+     */
+    private int index;
+
+    public ArrayHashIterator(Object[] keys, Object[] elems, int counter) {
+        this.keys = keys;
+        this.elems = elems;
+        this.counter = counter;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     */
+    @Override
+    public void rewind() {
+        current = 0;
+        index = 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     */
+    @Override
+    public boolean hasNext() {
+        return current < counter;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        Object k;
+        do {
+            k = keys[index++];
+        } while (k == null || k == ArrayHashTable.REMOVED_KEY);
+        current++;
+        return (E) elems[index - 1];
+    }
+}
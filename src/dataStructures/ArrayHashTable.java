@@ -0,0 +1,314 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+
+/**
+ * Closed Hash Table stored as parallel arrays of keys, values and hash codes.
+ * Entries are never allocated by put, they are only built while iterating the entries.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class ArrayHashTable<K,V> extends HashTable<K,V> {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    //Load factors
+    static final float IDEAL_LOAD_FACTOR =0.5f;
+    static final float MAX_LOAD_FACTOR =0.8f;
+    static final int NOT_FOUND=-1;
+    static final int GROWTH_FACTOR =2;
+
+    // key of a removed cell
+    static final Object REMOVED_KEY = new Object();
+
+    /**
+     * Keys of the table, null if the cell was never used
+     */
+    private transient Object[] keys;
+
+    /**
+     * Values of the table
+     */
+    private transient Object[] values;
+
+    /**
+     * Hash codes of the keys
+     */
+    private transient int[] hashes;
+
+    /**
+     * Number of cells holding REMOVED_KEY
+     */
+    private transient int removedCells;
+
+    /**
+     * Constructors
+     */
+
+    public ArrayHashTable( ){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayHashTable( int capacity ){
+        super(capacity);
+        createTable(HashTable.tableSizeFor((int) (capacity / IDEAL_LOAD_FACTOR)));
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Allocates empty arrays with the given length
+     * @param arraySize length of the arrays
+     */
+    private void createTable(int arraySize) {
+        keys = new Object[arraySize];
+        values = new Object[arraySize];
+        hashes = new int[arraySize];
+        removedCells = 0;
+        maxSize = (int)(arraySize * MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the home cell of the specified hash code.
+     */
+    private int index( int hashCode ){
+        return hashCode & (keys.length - 1);
+    }
+
+    /**
+     * Linear Probing
+     * @param key to search
+     * @param hashCode hash code of the key
+     * @return the index of the specified key, or -(insertion point + 1), where the insertion
+     * point is the first removed cell of the probe sequence or the empty cell that ended it
+     */
+    private int search(K key, int hashCode) {
+        int idx = index(hashCode);
+        int removed = NOT_FOUND;
+        for (int i = 0; i < keys.length; i++) {
+            Object k = keys[idx];
+            if (k == null)
+                return -((removed == NOT_FOUND ? idx : removed) + 1);
+            if (k == REMOVED_KEY) {
+                if (removed == NOT_FOUND)
+                    removed = idx;
+            } else if (hashes[idx] == hashCode && k.equals(key))
+                return idx;
+            idx = (idx + 1) & (keys.length - 1);
+        }
+        return -(removed + 1);
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Returns the first empty cell of the probe sequence of the hash code.
+     * Only used on tables without removed cells.
+     */
+    private int freeCell(int hashCode) {
+        int idx = index(hashCode);
+        while (keys[idx] != null) {
+            idx = (idx + 1) & (keys.length - 1);
+        }
+        return idx;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int idx = search(key, spread(key.hashCode()));
+        if (idx < 0)
+            return null;
+        return (V) values[idx];
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int hashCode = spread(key.hashCode());
+        int idx = search(key, hashCode);
+        if (idx >= 0) {
+            V oldValue = (V) values[idx];
+            values[idx] = value;
+            return oldValue;
+        }
+        idx = -(idx + 1);
+        if (keys[idx] == REMOVED_KEY)
+            removedCells--;
+        else if (currentSize + removedCells >= maxSize) {
+            rehash();
+            idx = freeCell(hashCode);
+        }
+        keys[idx] = key;
+        values[idx] = value;
+        hashes[idx] = hashCode;
+        currentSize++;
+        return null;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Moves every entry to new arrays, dropping the removed cells.
+     */
+    private void rehash() {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+
+        if (removedCells > currentSize)
+            createTable(oldKeys.length);
+        else
+            createTable(tableSizeFor(oldKeys.length * GROWTH_FACTOR));
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object k = oldKeys[i];
+            if (k != null && k != REMOVED_KEY) {
+                int idx = freeCell(oldHashes[i]);
+                keys[idx] = k;
+                values[idx] = oldValues[i];
+                hashes[idx] = oldHashes[i];
+            }
+        }
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int idx = search(key, spread(key.hashCode()));
+        if (idx < 0)
+            return null;
+        V oldValue = (V) values[idx];
+        values[idx] = null;
+        currentSize--;
+        int next = (idx + 1) & (keys.length - 1);
+        if (keys[next] != null) {
+            keys[idx] = REMOVED_KEY;
+            removedCells++;
+            return oldValue;
+        }
+        keys[idx] = null;
+        int previous = (idx - 1) & (keys.length - 1);
+        while (keys[previous] == REMOVED_KEY) {
+            keys[previous] = null;
+            removedCells--;
+            previous = (previous - 1) & (keys.length - 1);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns an iterator of the entries in the dictionary.
+     * Each entry is built when it is returned.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new ArrayHashEntryIterator<>(keys, values, currentSize);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    public Iterator<V> values() {
+        return new ArrayHashIterator<>(keys, values, currentSize);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    public Iterator<K> keys() {
+        return new ArrayHashIterator<>(keys, keys, currentSize);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(keys.length);
+        oos.writeInt(currentSize);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && keys[i] != REMOVED_KEY) {
+                oos.writeObject(keys[i]);
+                oos.writeObject(values[i]);
+            }
+        }
+        oos.flush();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        createTable(tableSizeFor(ois.readInt()));
+        int size = ois.readInt();
+        currentSize = 0;
+        for (int i = 0; i < size; i++) {
+            Object key = ois.readObject();
+            int hashCode = spread(key.hashCode());
+            int idx = freeCell(hashCode);
+            keys[idx] = key;
+            values[idx] = ois.readObject();
+            hashes[idx] = hashCode;
+            currentSize++;
+        }
+    }
+}
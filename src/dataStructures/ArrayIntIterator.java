@@ -0,0 +1,84 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Iterator of the int keys of an array whose empty cells have a null value
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ */
+class ArrayIntIterator implements IntIterator {
+
+    /**
+     * Keys of the array
+     */
+    private final int[] keys;
+
+    /**
+     * Values of the array, used to find the used cells
+     */
+    private final Object[] values;
+
+    /**
+     * Number of keys to return
+     */
+    private final int counter;
+
+    /**
+     * Number of keys returned
+     */
+    private int current;
+
+    /**
+     * Next cell to visit
+     */
+    private int index;
+
+    public ArrayIntIterator(int[] keys, Object[] values, int counter) {
+        this.keys = keys;
+        this.values = values;
+        this.counter = counter;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if nextInt would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return current < counter;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     * Returns the next key in the iteration.
+     *
+     * @return the next key in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    public int nextInt() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        while (values[index] == null)
+            index++;
+        current++;
+        return keys[index++];
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, nextInt will return the first element.
+     */
+    @Override
+    public void rewind() {
+        current = 0;
+        index = 0;
+    }
+}
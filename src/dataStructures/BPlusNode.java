@@ -0,0 +1,108 @@
+package dataStructures;
+
+/**
+ * B+ Tree Node
+ * An inner node has size keys and size + 1 children, child i holding the keys
+ * not smaller than keys[i - 1] and smaller than keys[i].
+ * A leaf has size keys with their values, and is linked to the leaves beside it.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class BPlusNode<K,V> {
+
+    /**
+     * Keys of the node, sorted
+     */
+    final Object[] keys;
+
+    /**
+     * Children of an inner node, null in a leaf
+     */
+    final BPlusNode<K,V>[] children;
+
+    /**
+     * Values of a leaf, null in an inner node
+     */
+    final Object[] values;
+
+    /**
+     * Number of keys
+     */
+    int size;
+
+    /**
+     * Leaf with the previous keys, null if this is the first leaf or an inner node
+     */
+    BPlusNode<K,V> previous;
+
+    /**
+     * Leaf with the next keys, null if this is the last leaf or an inner node
+     */
+    BPlusNode<K,V> next;
+
+    /**
+     * Constructor
+     * @param order largest number of entries of a leaf and of children of an inner node
+     * @param leaf true if the node is a leaf
+     */
+    @SuppressWarnings("unchecked")
+    BPlusNode(int order, boolean leaf) {
+        // one extra position holds the entry or child that makes the node split
+        if (leaf) {
+            keys = new Object[order + 1];
+            values = new Object[order + 1];
+            children = null;
+        } else {
+            keys = new Object[order];
+            values = null;
+            children = (BPlusNode<K,V>[]) new BPlusNode[order + 1];
+        }
+        size = 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return true if the node is a leaf
+     */
+    boolean isLeaf() {
+        return children == null;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Binary search of the key among the keys of the node
+     * @param key to search
+     * @return the position of the key, or -(position where it would be inserted + 1)
+     */
+    @SuppressWarnings("unchecked")
+    int search(K key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comp = ((Comparable<K>) keys[mid]).compareTo(key);
+            if (comp < 0)
+                low = mid + 1;
+            else if (comp > 0)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @param key to search
+     * @return the position of the child of an inner node that may hold the key
+     */
+    int childIndex(K key) {
+        int pos = search(key);
+        return pos >= 0 ? pos + 1 : -(pos + 1);
+    }
+}
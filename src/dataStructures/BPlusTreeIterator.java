@@ -0,0 +1,119 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * B+ Tree iterator of entries, keys or values, walking the linked leaves
+ * May start at any entry and go in descending order.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class BPlusTreeIterator<E> implements Iterator<E> {
+
+    /**
+     * Tree to iterate
+     */
+    private final BPlusTreeSortedMap<?,?> tree;
+
+    /**
+     * What to return, ENTRIES, KEYS or VALUES
+     */
+    private final int kind;
+
+    /**
+     * Leaf with the first element, null if there is none
+     */
+    private final BPlusNode<?,?> firstLeaf;
+
+    /**
+     * Position of the first element in its leaf
+     */
+    private final int firstPos;
+
+    /**
+     * True if the iteration is in descending order
+     */
+    private final boolean descending;
+
+    /**
+     * Leaf with the next element, null if there is none
+     */
+    private BPlusNode<?,?> leaf;
+
+    /**
+     * Position of the next element in the leaf
+     */
+    private int pos;
+
+    public BPlusTreeIterator(BPlusTreeSortedMap<?,?> tree, int kind) {
+        this(tree, kind, tree.isEmpty() ? null : tree.firstLeaf(), 0, false);
+    }
+
+    /**
+     * @param tree tree to iterate
+     * @param kind ENTRIES, KEYS or VALUES
+     * @param firstLeaf leaf with the first element, null for an empty iteration
+     * @param firstPos position of the first element in its leaf
+     * @param descending true to iterate in descending order
+     */
+    public BPlusTreeIterator(BPlusTreeSortedMap<?,?> tree, int kind,
+                             BPlusNode<?,?> firstLeaf, int firstPos, boolean descending) {
+        this.tree = tree;
+        this.kind = kind;
+        this.firstLeaf = firstLeaf;
+        this.firstPos = firstPos;
+        this.descending = descending;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return leaf != null;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        E elem = (E) ((BPlusTreeSortedMap) tree).element(leaf, pos, kind);
+        if (descending) {
+            if (--pos < 0) {
+                leaf = leaf.previous;
+                if (leaf != null)
+                    pos = leaf.size - 1;
+            }
+        } else if (++pos == leaf.size) {
+            leaf = leaf.next;
+            pos = 0;
+        }
+        return elem;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @Override
+    public void rewind() {
+        leaf = firstLeaf;
+        pos = firstPos;
+    }
+}
@@ -0,0 +1,648 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyMapException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+
+/**
+ * B+ Tree Sorted Map
+ * Every entry is kept in the leaves, which hold up to order entries in sorted arrays and
+ * are linked to their siblings. Inner nodes only hold keys to guide the searches, up to order
+ * children each, so the tree is shallow and iterations are walks over the arrays of the leaves.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class BPlusTreeSortedMap<K extends Comparable<K>,V> implements SortedMap<K,V> {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    static final int DEFAULT_ORDER = 64;
+
+    // Smallest order keeping every node, other than the root, at least one key after a split
+    static final int MIN_ORDER = 3;
+
+    // What an iterator returns
+    static final int ENTRIES = 0;
+    static final int KEYS = 1;
+    static final int VALUES = 2;
+
+    /**
+     * Largest number of entries of a leaf and of children of an inner node
+     */
+    private final int order;
+
+    /**
+     * Root node
+     */
+    private transient BPlusNode<K,V> root;
+
+    /**
+     * Number of entries in the tree
+     */
+    private transient int currentSize;
+
+    /**
+     * Separator key and new right sibling of the last node split by an insertion,
+     * read and cleared by its parent
+     */
+    private transient K splitKey;
+    private transient BPlusNode<K,V> splitNode;
+
+    /**
+     * Constructors
+     */
+
+    public BPlusTreeSortedMap( ){
+        this(DEFAULT_ORDER);
+    }
+
+    /**
+     * @param order largest number of entries of a leaf and of children of an inner node
+     */
+    public BPlusTreeSortedMap( int order ){
+        this.order = Math.max(order, MIN_ORDER);
+        root = new BPlusNode<>(this.order, true);
+        currentSize = 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return smallest number of entries of a leaf other than the root
+     */
+    private int minLeafSize() {
+        return order / 2;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return smallest number of keys of an inner node other than the root
+     */
+    private int minInnerSize() {
+        return (order - 1) / 2;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    @Override
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry with the smallest key in the dictionary.
+     * @return the min entry
+     * @throws EmptyMapException -> if size = 0
+     */
+    @Override
+    public Entry<K, V> minEntry() {
+        if (isEmpty())
+            throw new EmptyMapException();
+        return entry(firstLeaf(), 0);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry with the largest key in the dictionary.
+     * @return the max entry
+     * @throws EmptyMapException -> if size = 0
+     */
+    @Override
+    public Entry<K, V> maxEntry() {
+        if (isEmpty())
+            throw new EmptyMapException();
+        BPlusNode<K,V> leaf = lastLeaf();
+        return entry(leaf, leaf.size - 1);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @return the leaf with the smallest keys
+     */
+    BPlusNode<K,V> firstLeaf() {
+        BPlusNode<K,V> node = root;
+        while (!node.isLeaf())
+            node = node.children[0];
+        return node;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @return the leaf with the largest keys
+     */
+    private BPlusNode<K,V> lastLeaf() {
+        BPlusNode<K,V> node = root;
+        while (!node.isLeaf())
+            node = node.children[node.size];
+        return node;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @param key to search
+     * @return the leaf that holds or would hold the key
+     */
+    private BPlusNode<K,V> findLeaf(K key) {
+        BPlusNode<K,V> node = root;
+        while (!node.isLeaf())
+            node = node.children[node.childIndex(key)];
+        return node;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        BPlusNode<K,V> leaf = findLeaf(key);
+        int pos = leaf.search(key);
+        if (pos < 0)
+            return null;
+        return (V) leaf.values[pos];
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     * A node that overflows is split in two, which may grow the tree by a new root.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V put(K key, V value) {
+        V oldValue = insert(root, key, value);
+        if (splitNode != null) {
+            BPlusNode<K,V> newRoot = new BPlusNode<>(order, false);
+            newRoot.keys[0] = splitKey;
+            newRoot.children[0] = root;
+            newRoot.children[1] = splitNode;
+            newRoot.size = 1;
+            root = newRoot;
+            splitKey = null;
+            splitNode = null;
+        }
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Inserts the entry in the subtree of the node. If the node splits, its new right
+     * sibling and their separator key are left in splitNode and splitKey.
+     * @param node root of the subtree
+     * @return previous value associated with key, or null
+     */
+    @SuppressWarnings("unchecked")
+    private V insert(BPlusNode<K,V> node, K key, V value) {
+        if (node.isLeaf()) {
+            int pos = node.search(key);
+            if (pos >= 0) {
+                V oldValue = (V) node.values[pos];
+                node.values[pos] = value;
+                return oldValue;
+            }
+            pos = -(pos + 1);
+            System.arraycopy(node.keys, pos, node.keys, pos + 1, node.size - pos);
+            System.arraycopy(node.values, pos, node.values, pos + 1, node.size - pos);
+            node.keys[pos] = key;
+            node.values[pos] = value;
+            node.size++;
+            currentSize++;
+            if (node.size > order)
+                splitLeaf(node);
+            return null;
+        }
+        int idx = node.childIndex(key);
+        V oldValue = insert(node.children[idx], key, value);
+        if (splitNode != null) {
+            System.arraycopy(node.keys, idx, node.keys, idx + 1, node.size - idx);
+            System.arraycopy(node.children, idx + 1, node.children, idx + 2, node.size - idx);
+            node.keys[idx] = splitKey;
+            node.children[idx + 1] = splitNode;
+            node.size++;
+            splitKey = null;
+            splitNode = null;
+            if (node.size >= order)
+                splitInner(node);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(order)
+     *
+     * Moves the upper half of the leaf to a new leaf linked after it
+     * @param leaf leaf with one entry too many
+     */
+    @SuppressWarnings("unchecked")
+    private void splitLeaf(BPlusNode<K,V> leaf) {
+        BPlusNode<K,V> right = new BPlusNode<>(order, true);
+        int mid = leaf.size / 2;
+        right.size = leaf.size - mid;
+        System.arraycopy(leaf.keys, mid, right.keys, 0, right.size);
+        System.arraycopy(leaf.values, mid, right.values, 0, right.size);
+        clear(leaf.keys, mid, leaf.size);
+        clear(leaf.values, mid, leaf.size);
+        leaf.size = mid;
+        right.next = leaf.next;
+        if (right.next != null)
+            right.next.previous = right;
+        right.previous = leaf;
+        leaf.next = right;
+        splitKey = (K) right.keys[0];
+        splitNode = right;
+    }
+
+    /**
+     * Time complexity: O(order)
+     *
+     * Moves the keys and children after the middle key to a new inner node,
+     * the middle key becomes their separator in the parent
+     * @param node inner node with one child too many
+     */
+    @SuppressWarnings("unchecked")
+    private void splitInner(BPlusNode<K,V> node) {
+        BPlusNode<K,V> right = new BPlusNode<>(order, false);
+        int mid = node.size / 2;
+        right.size = node.size - mid - 1;
+        System.arraycopy(node.keys, mid + 1, right.keys, 0, right.size);
+        System.arraycopy(node.children, mid + 1, right.children, 0, right.size + 1);
+        splitKey = (K) node.keys[mid];
+        clear(node.keys, mid, node.size);
+        clear(node.children, mid + 1, node.size + 1);
+        node.size = mid;
+        splitNode = right;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * A node left with too few keys borrows from a sibling or is merged with it,
+     * which may shrink the tree by its root.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    public V remove(K key) {
+        V oldValue = delete(root, key);
+        if (!root.isLeaf() && root.size == 0)
+            root = root.children[0];
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Removes the key from the subtree of the node, fixing the children left with too few keys
+     * @param node root of the subtree
+     * @return previous value associated with key, or null
+     */
+    @SuppressWarnings("unchecked")
+    private V delete(BPlusNode<K,V> node, K key) {
+        if (node.isLeaf()) {
+            int pos = node.search(key);
+            if (pos < 0)
+                return null;
+            V oldValue = (V) node.values[pos];
+            System.arraycopy(node.keys, pos + 1, node.keys, pos, node.size - pos - 1);
+            System.arraycopy(node.values, pos + 1, node.values, pos, node.size - pos - 1);
+            node.size--;
+            node.keys[node.size] = null;
+            node.values[node.size] = null;
+            currentSize--;
+            return oldValue;
+        }
+        int idx = node.childIndex(key);
+        BPlusNode<K,V> child = node.children[idx];
+        V oldValue = delete(child, key);
+        if (child.size < (child.isLeaf() ? minLeafSize() : minInnerSize())) {
+            if (child.isLeaf())
+                fixLeaf(node, idx);
+            else
+                fixInner(node, idx);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(order)
+     *
+     * Refills a leaf with too few entries from a sibling, or merges it with one
+     * @param parent parent of the leaf
+     * @param idx position of the leaf among the children of the parent
+     */
+    @SuppressWarnings("unchecked")
+    private void fixLeaf(BPlusNode<K,V> parent, int idx) {
+        BPlusNode<K,V> child = parent.children[idx];
+        BPlusNode<K,V> left = idx > 0 ? parent.children[idx - 1] : null;
+        BPlusNode<K,V> right = idx < parent.size ? parent.children[idx + 1] : null;
+        if (left != null && left.size > minLeafSize()) {
+            System.arraycopy(child.keys, 0, child.keys, 1, child.size);
+            System.arraycopy(child.values, 0, child.values, 1, child.size);
+            left.size--;
+            child.keys[0] = left.keys[left.size];
+            child.values[0] = left.values[left.size];
+            left.keys[left.size] = null;
+            left.values[left.size] = null;
+            child.size++;
+            parent.keys[idx - 1] = child.keys[0];
+        } else if (right != null && right.size > minLeafSize()) {
+            child.keys[child.size] = right.keys[0];
+            child.values[child.size] = right.values[0];
+            child.size++;
+            System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+            System.arraycopy(right.values, 1, right.values, 0, right.size - 1);
+            right.size--;
+            right.keys[right.size] = null;
+            right.values[right.size] = null;
+            parent.keys[idx] = right.keys[0];
+        } else if (left != null)
+            mergeLeaves(parent, idx - 1);
+        else if (right != null)
+            mergeLeaves(parent, idx);
+    }
+
+    /**
+     * Time complexity: O(order)
+     *
+     * Appends a leaf to the leaf before it and removes it from the parent
+     * @param parent parent of both leaves
+     * @param idx position of the first leaf among the children of the parent
+     */
+    private void mergeLeaves(BPlusNode<K,V> parent, int idx) {
+        BPlusNode<K,V> left = parent.children[idx];
+        BPlusNode<K,V> right = parent.children[idx + 1];
+        System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+        System.arraycopy(right.values, 0, left.values, left.size, right.size);
+        left.size += right.size;
+        left.next = right.next;
+        if (left.next != null)
+            left.next.previous = left;
+        removeChild(parent, idx);
+    }
+
+    /**
+     * Time complexity: O(order)
+     *
+     * Refills an inner node with too few keys through the parent from a sibling,
+     * or merges it with one
+     * @param parent parent of the node
+     * @param idx position of the node among the children of the parent
+     */
+    private void fixInner(BPlusNode<K,V> parent, int idx) {
+        BPlusNode<K,V> child = parent.children[idx];
+        BPlusNode<K,V> left = idx > 0 ? parent.children[idx - 1] : null;
+        BPlusNode<K,V> right = idx < parent.size ? parent.children[idx + 1] : null;
+        if (left != null && left.size > minInnerSize()) {
+            System.arraycopy(child.keys, 0, child.keys, 1, child.size);
+            System.arraycopy(child.children, 0, child.children, 1, child.size + 1);
+            child.keys[0] = parent.keys[idx - 1];
+            child.children[0] = left.children[left.size];
+            child.size++;
+            parent.keys[idx - 1] = left.keys[left.size - 1];
+            left.keys[left.size - 1] = null;
+            left.children[left.size] = null;
+            left.size--;
+        } else if (right != null && right.size > minInnerSize()) {
+            child.keys[child.size] = parent.keys[idx];
+            child.children[child.size + 1] = right.children[0];
+            child.size++;
+            parent.keys[idx] = right.keys[0];
+            System.arraycopy(right.keys, 1, right.keys, 0, right.size - 1);
+            System.arraycopy(right.children, 1, right.children, 0, right.size);
+            right.keys[right.size - 1] = null;
+            right.children[right.size] = null;
+            right.size--;
+        } else if (left != null)
+            mergeInner(parent, idx - 1);
+        else if (right != null)
+            mergeInner(parent, idx);
+    }
+
+    /**
+     * Time complexity: O(order)
+     *
+     * Appends the separator key and an inner node to the inner node before it,
+     * and removes it from the parent
+     * @param parent parent of both nodes
+     * @param idx position of the first node among the children of the parent
+     */
+    private void mergeInner(BPlusNode<K,V> parent, int idx) {
+        BPlusNode<K,V> left = parent.children[idx];
+        BPlusNode<K,V> right = parent.children[idx + 1];
+        left.keys[left.size] = parent.keys[idx];
+        System.arraycopy(right.keys, 0, left.keys, left.size + 1, right.size);
+        System.arraycopy(right.children, 0, left.children, left.size + 1, right.size + 1);
+        left.size += right.size + 1;
+        removeChild(parent, idx);
+    }
+
+    /**
+     * Time complexity: O(order)
+     *
+     * Removes the separator key at the position and the child after it from an inner node
+     * @param parent inner node
+     * @param idx position of the separator key
+     */
+    private void removeChild(BPlusNode<K,V> parent, int idx) {
+        System.arraycopy(parent.keys, idx + 1, parent.keys, idx, parent.size - idx - 1);
+        System.arraycopy(parent.children, idx + 2, parent.children, idx + 1, parent.size - idx - 1);
+        parent.size--;
+        parent.keys[parent.size] = null;
+        parent.children[parent.size + 1] = null;
+    }
+
+    /**
+     * Time complexity: O(order)
+     *
+     * Clears the positions from the first to the last, exclusive, so they hold no references
+     */
+    private static void clear(Object[] array, int from, int to) {
+        for (int i = from; i < to; i++)
+            array[i] = null;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return entry in the position of the leaf
+     */
+    @SuppressWarnings("unchecked")
+    private Entry<K,V> entry(BPlusNode<K,V> leaf, int pos) {
+        return new Entry<>((K) leaf.keys[pos], (V) leaf.values[pos]);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @param leaf a leaf of the tree
+     * @param pos position of an entry in the leaf
+     * @param kind ENTRIES, KEYS or VALUES
+     * @return the entry, key or value in the position of the leaf
+     */
+    Object element(BPlusNode<K,V> leaf, int pos, int kind) {
+        if (kind == KEYS)
+            return leaf.keys[pos];
+        if (kind == VALUES)
+            return leaf.values[pos];
+        return entry(leaf, pos);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries in the dictionary.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new BPlusTreeIterator<>(this, ENTRIES);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries whose keys are not smaller than the specified key,
+     * in ascending order. The iteration starts at the position found by one descent.
+     * @param from smallest key to iterate
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> tailIterator(K from) {
+        BPlusNode<K,V> leaf = findLeaf(from);
+        int pos = leaf.search(from);
+        if (pos < 0)
+            pos = -(pos + 1);
+        if (pos == leaf.size) {
+            leaf = leaf.next;
+            pos = 0;
+        }
+        return new BPlusTreeIterator<>(this, ENTRIES, leaf, pos, false);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries in the dictionary, in descending order.
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator() {
+        BPlusNode<K,V> leaf = isEmpty() ? null : lastLeaf();
+        return new BPlusTreeIterator<>(this, ENTRIES, leaf, leaf == null ? 0 : leaf.size - 1, true);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries whose keys are not larger than the specified key,
+     * in descending order. The iteration starts at the position found by one descent.
+     * @param from largest key to iterate
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator(K from) {
+        BPlusNode<K,V> leaf = findLeaf(from);
+        int pos = leaf.search(from);
+        if (pos < 0)
+            pos = -(pos + 1) - 1;
+        if (pos < 0) {
+            leaf = leaf.previous;
+            pos = leaf == null ? 0 : leaf.size - 1;
+        }
+        return new BPlusTreeIterator<>(this, ENTRIES, leaf, pos, true);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    public Iterator<V> values() {
+        return new BPlusTreeIterator<>(this, VALUES);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    public Iterator<K> keys() {
+        return new BPlusTreeIterator<>(this, KEYS);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(currentSize);
+        for (BPlusNode<K,V> leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            for (int i = 0; i < leaf.size; i++) {
+                oos.writeObject(leaf.keys[i]);
+                oos.writeObject(leaf.values[i]);
+            }
+        }
+        oos.flush();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        root = new BPlusNode<>(order, true);
+        currentSize = 0;
+        int size = ois.readInt();
+        for (int i = 0; i < size; i++)
+            put((K) ois.readObject(), (V) ois.readObject());
+    }
+}
@@ -5,6 +5,7 @@ import dataStructures.exceptions.EmptyMapException;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 
 /**
@@ -16,12 +17,84 @@ import java.io.Serial;
  */
 public class BSTSortedMap<K extends Comparable<K>,V> extends BTree<Map.Entry<K,V>> implements SortedMap<K,V>{
 
+    @Serial
+    private static final long serialVersionUID = -3194031319398934986L;
+
+    /**
+     * Fields of the saved form, the entries in ascending order, absent from older files
+     */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("entries", Entry[].class)
+    };
+
     /**
      * Constructor
      */
     public BSTSortedMap(){
         super();
     }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Builds a balanced tree with the entries, without comparing any keys
+     * @param sorted entries in ascending order of their keys, with no repeated keys
+     * @param size number of entries
+     */
+    public BSTSortedMap(Iterator<Entry<K,V>> sorted, int size){
+        super();
+        build(sorted, size);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Replaces the tree by a balanced tree with the entries, without comparing any keys
+     * @param sorted entries in ascending order of their keys, with no repeated keys
+     * @param size number of entries
+     */
+    protected void build(Iterator<Entry<K,V>> sorted, int size) {
+        root = buildTree(sorted, size);
+        currentSize = size;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Builds the subtree in order: its left half, its root, then its right half,
+     * so every node is made after its children.
+     * @param sorted entries in ascending order of their keys
+     * @param size number of entries of the subtree
+     * @return root of the subtree, null if it is empty
+     */
+    private BTNode<Entry<K,V>> buildTree(Iterator<Entry<K,V>> sorted, int size) {
+        if (size == 0)
+            return null;
+        int leftSize = (size - 1) / 2;
+        BTNode<Entry<K,V>> left = buildTree(sorted, leftSize);
+        Entry<K,V> entry = sorted.next();
+        BTNode<Entry<K,V>> right = buildTree(sorted, size - 1 - leftSize);
+        BTNode<Entry<K,V>> node = newNode(entry, left, right);
+        if (left != null)
+            left.setParent(node);
+        if (right != null)
+            right.setParent(node);
+        return node;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Makes the node of a built tree
+     * @param entry entry of the node
+     * @param left left child, already built
+     * @param right right child, already built
+     * @return the node
+     */
+    protected BTNode<Entry<K,V>> newNode(Entry<K,V> entry, BTNode<Entry<K,V>> left, BTNode<Entry<K,V>> right) {
+        return new BTNode<>(entry, null, left, right);
+    }
     /**
      * Time complexity: O(log n)
      *
@@ -62,37 +135,28 @@ public class BSTSortedMap<K extends Comparable<K>,V> extends BTree<Map.Entry<K,V
      */
     @Override
     public V get(K key) {
-        Node<Entry<K,V>> node=getNode((BTNode<Entry<K,V>>)root,key);
-        if(node==null)
-            return null;
-        int comp = key.compareTo(node.getElement().key());
-        if(comp==0){
-            return node.getElement().value();
-        } else
+        BTNode<Entry<K,V>> node = findNode(key);
+        if (node == null)
             return null;
+        return node.getElement().value();
     }
 
     /**
      * Time complexity: O(log n)
      *
-     * @param node node to search
+     * Descends from the root, comparing the key once per level.
      * @param key key
-     * @return if found the node with the specific key or the possible parent
+     * @return the node with the specific key, or null if there is none
      */
-    protected BTNode<Entry<K,V>> getNode(BTNode<Entry<K,V>> node, K key) {
-        if(node==null)
-            return null;
-        int comp = key.compareTo(node.getElement().key());
-        if(comp == 0)
-            return node;
-        else if(comp<0 && node.getLeftChild()!=null)
-            return getNode((BTNode<Entry<K,V>>) node.getLeftChild(), key);
-        else if (comp>0 && node.getRightChild()!=null)
-            return getNode((BTNode<Entry<K,V>>) node.getRightChild(), key);
-        else if (comp<0 && node.getLeftChild()==null)
-            return node;
-        else
-            return node;
+    protected BTNode<Entry<K,V>> findNode(K key) {
+        BTNode<Entry<K,V>> node = (BTNode<Entry<K,V>>) root;
+        while (node != null) {
+            int comp = key.compareTo(node.getElement().key());
+            if (comp == 0)
+                return node;
+            node = (BTNode<Entry<K,V>>) (comp < 0 ? node.getLeftChild() : node.getRightChild());
+        }
+        return null;
     }
 
     /**
@@ -117,29 +181,33 @@ public class BSTSortedMap<K extends Comparable<K>,V> extends BTree<Map.Entry<K,V
     /**
      * Time complexity: O(log n)
      *
+     * Descends from the root once, comparing the key once per level, and either replaces
+     * the entry of the node with the same key or links the new node where the descent ended.
      * @param newNode new node to be added or substituted
      * @return null if is a new node or the oldValue
      */
     protected V addNode(BTNode<Entry<K,V>> newNode) {
         Entry<K,V> newEntry = newNode.getElement();
-        BTNode<Entry<K,V>> node = getNode((BTNode<Entry<K, V>>) root, newEntry.key());
-        if (node==null){
-            root = newNode;
-        }
-        else{
-            if (node.getElement().key().equals(newEntry.key())) {
+        BTNode<Entry<K,V>> parent = null;
+        BTNode<Entry<K,V>> node = (BTNode<Entry<K,V>>) root;
+        int comp = 0;
+        while (node != null) {
+            comp = newEntry.key().compareTo(node.getElement().key());
+            if (comp == 0) {
                 V oldValue = node.getElement().value();
                 node.setElement(newEntry);
                 return oldValue;
             }
-            if (newEntry.key().compareTo(node.getElement().key()) < 0){
-                node.setLeftChild(newNode);
-                newNode.setParent(node);
-            } else{
-                node.setRightChild(newNode);
-                newNode.setParent(node);
-            }
+            parent = node;
+            node = (BTNode<Entry<K,V>>) (comp < 0 ? node.getLeftChild() : node.getRightChild());
         }
+        newNode.setParent(parent);
+        if (parent == null)
+            root = newNode;
+        else if (comp < 0)
+            parent.setLeftChild(newNode);
+        else
+            parent.setRightChild(newNode);
         currentSize++;
         return null;
     }
@@ -158,122 +226,135 @@ public class BSTSortedMap<K extends Comparable<K>,V> extends BTree<Map.Entry<K,V
      */
     @Override
     public V remove(K key) {
-        BTNode<Entry<K,V>> node=getNode((BTNode<Entry<K,V>>)root,key);
-        if (node==null || !node.getElement().key().equals(key))
+        BTNode<Entry<K,V>> node = findNode(key);
+        if (node == null)
             return null;
-        BTNode<Entry<K,V>> parent = (BTNode<Entry<K,V>>)node.getParent();
-        if (node.getLeftChild() == null && node.getRightChild() == null)
-            removeHasNoChildren(node, parent);
-        else if (node.getRightChild() != null && node.getLeftChild() == null)
-            removeHasRightChild(node, parent);
-        else if (node.getLeftChild() != null && node.getRightChild() == null)
-            removeHasLeftChild(node, parent);
+        V oldValue = node.getElement().value();
+        removeNode(node);
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Removes the node from the tree. A node with both children takes the entry of its
+     * successor, and the successor, which has no left child, is unlinked instead.
+     * @param node node to be removed
+     * @return parent of the node unlinked from the tree, the lowest node whose subtree changed,
+     * or null if the unlinked node was the root
+     */
+    protected BTNode<Entry<K,V>> removeNode(BTNode<Entry<K,V>> node) {
+        if (node.getLeftChild() != null && node.getRightChild() != null) {
+            BTNode<Entry<K,V>> successor = ((BTNode<Entry<K,V>>) node.getRightChild()).furtherLeftElement();
+            node.setElement(successor.getElement());
+            node = successor;
+        }
+        BTNode<Entry<K,V>> parent = (BTNode<Entry<K,V>>) node.getParent();
+        BTNode<Entry<K,V>> child = (BTNode<Entry<K,V>>)
+                (node.getLeftChild() != null ? node.getLeftChild() : node.getRightChild());
+        if (child != null)
+            child.setParent(parent);
+        if (parent == null)
+            root = child;
+        else if (parent.getLeftChild() == node)
+            parent.setLeftChild(child);
         else
-            removeHasBothChildren(node, parent);
+            parent.setRightChild(child);
         currentSize--;
-        return node.getElement().value();
+        return parent;
     }
 
     /**
      * Time complexity: O(1) (constant)
      *
-     * Remove the node with no children
-     * @param node node to be removed
-     * @param parent parent node
+     * Returns an iterator of the entries in the dictionary.
+     *
+     * @return iterator of the entries in the dictionary
      */
-    private void removeHasNoChildren(BTNode<Entry<K,V>> node, BTNode<Entry<K,V>> parent) {
-        if (!node.isRoot()){
-            if (parent.getLeftChild() == node)
-                parent.setLeftChild(null);
-            else
-                parent.setRightChild(null);
-        } else
-            root = null;
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new InOrderIterator<>((BTNode<Entry<K,V>>) root);
     }
 
     /**
-     * Time complexity: O(1) (constant)
+     * Time complexity: O(log n)
      *
-     * Remove the node with a right child
-     * @param node node to be removed
-     * @param parent parent node
+     * Returns an iterator of the entries whose keys are not smaller than the specified key,
+     * in ascending order. The iteration starts at the node found by one descent.
+     * @param from smallest key to iterate
+     * @return iterator of the entries
      */
-    private void removeHasRightChild(BTNode<Entry<K,V>> node, BTNode<Entry<K,V>> parent) {
-        if (!node.isRoot()){
-            if (parent.getLeftChild() == node)
-                parent.setLeftChild(node.getRightChild());
-            else
-                parent.setRightChild(node.getRightChild());
-            ((BTNode<Entry<K,V>>)node.getRightChild()).setParent(parent);
-        } else {
-            root = node.getRightChild();
-            ((BTNode<Entry<K,V>>) root).setParent(null);
-        }
+    @Override
+    public Iterator<Entry<K, V>> tailIterator(K from) {
+        return new InOrderIterator<>(ceilingNode(from), false);
     }
 
     /**
-     * Time complexity: O(1) (constant)
+     * Time complexity: O(log n)
      *
-     * Remove the node with a left child
-     * @param node node to be removed
-     * @param parent parent node
+     * Returns an iterator of the entries in the dictionary, in descending order.
+     * @return iterator of the entries
      */
-    private void removeHasLeftChild(BTNode<Entry<K,V>> node, BTNode<Entry<K,V>> parent) {
-        if (!node.isRoot()){
-            if (parent.getLeftChild() == node)
-                parent.setLeftChild(node.getLeftChild());
-            else
-                parent.setRightChild(node.getLeftChild());
-            ((BTNode<Entry<K,V>>)node.getLeftChild()).setParent(parent);
-        } else {
-            root = node.getLeftChild();
-            ((BTNode<Entry<K,V>>) root).setParent(null);
-        }
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator() {
+        return new InOrderIterator<>(isEmpty() ? null : furtherRightElement(), true);
     }
 
     /**
-     * Time complexity: O(1) (constant)
+     * Time complexity: O(log n)
      *
-     * Remove the node with 2 children
-     * @param node node to be removed
-     * @param parent parent node
+     * Returns an iterator of the entries whose keys are not larger than the specified key,
+     * in descending order. The iteration starts at the node found by one descent.
+     * @param from largest key to iterate
+     * @return iterator of the entries
      */
-    private void removeHasBothChildren(BTNode<Entry<K,V>> node, BTNode<Entry<K,V>> parent) {
-        BTNode<Entry<K,V>> newNode = ((BTNode<Entry<K,V>>)node.getRightChild()).furtherLeftElement();
-        if (newNode == node.getRightChild()){
-            ((BTNode<Entry<K,V>>)node.getLeftChild()).setParent(newNode);
-            newNode.setLeftChild(node.getLeftChild());
-        } else {
-            BTNode<Entry<K,V>> rightChild = (BTNode<Entry<K, V>>) newNode.getRightChild();
-            ((BTNode<Entry<K,V>>)newNode.getParent()).setLeftChild(rightChild);
-            if (rightChild != null)
-                rightChild.setParent(newNode.getParent());
-            newNode.setLeftChild(node.getLeftChild());
-            ((BTNode<Entry<K,V>>) node.getLeftChild()).setParent(newNode);
-            newNode.setRightChild(node.getRightChild());
-            ((BTNode<Entry<K,V>>) node.getRightChild()).setParent(newNode);
-        }
-        newNode.setParent(parent);
-        if (node.isRoot()) {
-            root = newNode;
-        } else{
-            if (parent.getLeftChild() == node)
-                parent.setLeftChild(newNode);
-            else
-                parent.setRightChild(newNode);
-        }
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator(K from) {
+        return new InOrderIterator<>(floorNode(from), true);
     }
 
     /**
-     * Time complexity: O(1) (constant)
+     * Time complexity: O(log n)
      *
-     * Returns an iterator of the entries in the dictionary.
+     * @param key key
+     * @return the node with the smallest key not smaller than the specified key, or null if there is none
+     */
+    protected BTNode<Entry<K,V>> ceilingNode(K key) {
+        BTNode<Entry<K,V>> ceiling = null;
+        BTNode<Entry<K,V>> node = (BTNode<Entry<K,V>>) root;
+        while (node != null) {
+            int comp = key.compareTo(node.getElement().key());
+            if (comp == 0)
+                return node;
+            if (comp < 0) {
+                ceiling = node;
+                node = (BTNode<Entry<K,V>>) node.getLeftChild();
+            } else
+                node = (BTNode<Entry<K,V>>) node.getRightChild();
+        }
+        return ceiling;
+    }
+
+    /**
+     * Time complexity: O(log n)
      *
-     * @return iterator of the entries in the dictionary
+     * @param key key
+     * @return the node with the largest key not larger than the specified key, or null if there is none
      */
-    @Override
-    public Iterator<Entry<K, V>> iterator() {
-        return new InOrderIterator<>((BTNode<Entry<K,V>>) root);
+    protected BTNode<Entry<K,V>> floorNode(K key) {
+        BTNode<Entry<K,V>> floor = null;
+        BTNode<Entry<K,V>> node = (BTNode<Entry<K,V>>) root;
+        while (node != null) {
+            int comp = key.compareTo(node.getElement().key());
+            if (comp == 0)
+                return node;
+            if (comp > 0) {
+                floor = node;
+                node = (BTNode<Entry<K,V>>) node.getRightChild();
+            } else
+                node = (BTNode<Entry<K,V>>) node.getLeftChild();
+        }
+        return floor;
     }
 
     /**
@@ -303,18 +384,29 @@ public class BSTSortedMap<K extends Comparable<K>,V> extends BTree<Map.Entry<K,V
 
     @Serial
     private void writeObject(ObjectOutputStream oos) throws IOException {
-        oos.defaultWriteObject();
-        oos.writeInt(currentSize);
-        oos.writeObject(root);
+        Entry<?,?>[] entries = new Entry[currentSize];
+        Iterator<Entry<K,V>> it = iterator();
+        for (int i = 0; it.hasNext(); i++)
+            entries[i] = it.next();
+        ObjectOutputStream.PutField fields = oos.putFields();
+        fields.put("entries", entries);
+        oos.writeFields();
     }
 
     @Serial
+    @SuppressWarnings("unchecked")
     private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-        ois.defaultReadObject();
-        currentSize = ois.readInt();
-        @SuppressWarnings("unchecked")
-        BTNode<Entry<K,V>> root = (BTNode<Entry<K,V>>) ois.readObject();
-        this.root = root;
+        ObjectInputStream.GetField fields = ois.readFields();
+        Entry<K,V>[] entries = (Entry<K,V>[]) fields.get("entries", null);
+        if (entries == null) {
+            // older files saved the node graph, whose nodes may lack their sizes, so its entries are taken in order
+            entries = (Entry<K,V>[]) new Entry[currentSize];
+            Iterator<Entry<K,V>> it = iterator();
+            for (int i = 0; it.hasNext(); i++)
+                entries[i] = it.next();
+        }
+        // the entries are in order, so the tree is rebuilt balanced in linear time
+        build(new ArrayIterator<>(entries, entries.length), entries.length);
     }
 
 }
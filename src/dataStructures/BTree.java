@@ -1,5 +1,7 @@
 package dataStructures;
 
+import java.io.Serial;
+
 /**
  * Binary Tree
  *
@@ -8,6 +10,9 @@ package dataStructures;
  */
 abstract class BTree<E> extends Tree<E> {
 
+    @Serial
+    private static final long serialVersionUID = -7445204922466416765L;
+
     /**
      * Time complexity: O(n) (linear)
      *
@@ -0,0 +1,76 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Iterator of the elements of a circular buffer whose length is a power of two
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class CircularArrayIterator<E> implements Iterator<E> {
+
+    /**
+     * Circular buffer of the elements
+     */
+    private final E[] elems;
+
+    /**
+     * Cell of the first element
+     */
+    private final int head;
+
+    /**
+     * Number of elements to return
+     */
+    private final int counter;
+
+    /**
+     * Number of elements returned
+     */
+    private int current;
+
+    public CircularArrayIterator(E[] elems, int head, int counter) {
+        this.elems = elems;
+        this.head = head;
+        this.counter = counter;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return current < counter;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        return elems[(head + current++) & (elems.length - 1)];
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @Override
+    public void rewind() {
+        current = 0;
+    }
+}
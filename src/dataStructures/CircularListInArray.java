@@ -0,0 +1,375 @@
+package dataStructures;
+import dataStructures.exceptions.*;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.function.Consumer;
+
+/**
+ * Circular List in Array
+ * The elements are kept in a circular buffer that may start at any cell, wrapping around
+ * the end of the array. Elements are added and removed at both ends in O(1) (constant) time,
+ * and insertions and removals in the middle shift the side closest to an end.
+ * The capacity is always a power of two, so positions wrap around with a mask.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+public class CircularListInArray<E> implements List<E> {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    private static final int FACTOR = 2;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Circular buffer of the elements, empty cells are null
+     */
+    private transient E[] elems;
+
+    /**
+     * Cell of the first element
+     */
+    private transient int head;
+
+    /**
+     * Number of elements in the list
+     */
+    private transient int counter;
+
+    public CircularListInArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param dimension initial capacity, rounded up to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    public CircularListInArray(int dimension) {
+        elems = (E[]) new Object[HashTable.tableSizeFor(Math.max(dimension, 1))];
+        head = 0;
+        counter = 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @param position position of an element in the list
+     * @return cell of the element
+     */
+    private int cell(int position) {
+        return (head + position) & (elems.length - 1);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns true iff the list contains no elements.
+     *
+     * @return true if list is empty
+     */
+    public boolean isEmpty() {
+        return counter == 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the number of elements in the list.
+     *
+     * @return number of elements in the list
+     */
+    public int size() {
+        return counter;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns an iterator of the elements in the list (in proper sequence).
+     *
+     * @return Iterator of the elements in the list
+     */
+    public Iterator<E> iterator() {
+        return new CircularArrayIterator<>(elems, head, counter);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Performs the action on every element of the list (in proper sequence),
+     * walking the buffer directly.
+     *
+     * @param action action to perform on each element
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (int i = 0; i < counter; i++)
+            action.accept(elems[cell(i)]);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the first element of the list.
+     *
+     * @return first element in the list
+     * @throws NoSuchElementException - if size() == 0
+     */
+    public E getFirst() {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return elems[head];
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the last element of the list.
+     *
+     * @return last element in the list
+     * @throws NoSuchElementException - if size() == 0
+     */
+    public E getLast() {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return elems[cell(counter - 1)];
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the element at the specified position in the list.
+     * Range of valid positions: 0, ..., size()-1.
+     *
+     * @param position - position of element to be returned
+     * @return element at position
+     * @throws InvalidPositionException if position is not valid in the list
+     */
+    public E get(int position) {
+        if (position < 0 || position >= counter)
+            throw new InvalidPositionException();
+        return elems[cell(position)];
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Returns the position of the first occurrence of the specified element
+     * in the list, if the list contains the element.
+     * Otherwise, returns -1.
+     *
+     * @param element - element to be searched in list
+     * @return position of the first occurrence of the element in the list (or -1)
+     */
+    public int indexOf(E element) {
+        for (int i = 0; i < counter; i++)
+            if (elems[cell(i)].equals(element))
+                return i;
+        return NOT_FOUND;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     *
+     * Inserts the specified element at the first position in the list.
+     *
+     * @param element to be inserted
+     */
+    public void addFirst(E element) {
+        if (counter == elems.length)
+            ensureCapacity(counter + 1);
+        head = (head - 1) & (elems.length - 1);
+        elems[head] = element;
+        counter++;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     *
+     * Inserts the specified element at the last position in the list.
+     *
+     * @param element to be inserted
+     */
+    public void addLast(E element) {
+        if (counter == elems.length)
+            ensureCapacity(counter + 1);
+        elems[cell(counter)] = element;
+        counter++;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Inserts the specified element at the specified position in the list.
+     * Range of valid positions: 0, ..., size().
+     * The elements between the position and the closest end are shifted one cell towards it.
+     *
+     * @param position - position where to insert element
+     * @param element  - element to be inserted
+     * @throws InvalidPositionException - if position is not valid in the list
+     */
+    public void add(int position, E element) {
+        if (position < 0 || position > counter)
+            throw new InvalidPositionException();
+        if (counter == elems.length)
+            ensureCapacity(counter + 1);
+        if (position < counter / 2) {
+            head = (head - 1) & (elems.length - 1);
+            for (int i = 0; i < position; i++)
+                elems[cell(i)] = elems[cell(i + 1)];
+        } else {
+            for (int i = counter; i > position; i--)
+                elems[cell(i)] = elems[cell(i - 1)];
+        }
+        elems[cell(position)] = element;
+        counter++;
+    }
+
+    /**
+     * Time complexity: O(m) (linear in the number of elements added)
+     *
+     * Inserts the elements of the array at the last positions in the list, in their order,
+     * growing the buffer at most once.
+     *
+     * @param array elements to be inserted
+     */
+    public void addAll(E[] array) {
+        ensureCapacity(counter + array.length);
+        for (E element : array)
+            elems[cell(counter++)] = element;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Removes and returns the element at the first position in the list.
+     *
+     * @return element removed from the first position of the list
+     * @throws NoSuchElementException - if size() == 0
+     */
+    public E removeFirst() {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        E temp = elems[head];
+        elems[head] = null;
+        head = (head + 1) & (elems.length - 1);
+        counter--;
+        return temp;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Removes and returns the element at the last position in the list.
+     *
+     * @return element removed from the last position of the list
+     * @throws NoSuchElementException - if size() == 0
+     */
+    public E removeLast() {
+        if (isEmpty())
+            throw new NoSuchElementException();
+        int last = cell(--counter);
+        E temp = elems[last];
+        elems[last] = null;
+        return temp;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Removes and returns the element at the specified position in the list.
+     * Range of valid positions: 0, ..., size()-1.
+     * The elements between the position and the closest end are shifted one cell towards it.
+     *
+     * @param position - position of element to be removed
+     * @return element removed at position
+     * @throws InvalidPositionException - if position is not valid in the list
+     */
+    public E remove(int position) {
+        if (position < 0 || position >= counter)
+            throw new InvalidPositionException();
+        E temp = elems[cell(position)];
+        if (position < counter / 2) {
+            for (int i = position; i > 0; i--)
+                elems[cell(i)] = elems[cell(i - 1)];
+            elems[head] = null;
+            head = (head + 1) & (elems.length - 1);
+        } else {
+            for (int i = position; i < counter - 1; i++)
+                elems[cell(i)] = elems[cell(i + 1)];
+            elems[cell(counter - 1)] = null;
+        }
+        counter--;
+        return temp;
+    }
+
+    /**
+     * Time complexity: O(n) (linear) if the buffer grows, O(1) (constant) otherwise
+     *
+     * Grows the buffer, if needed, so it holds at least the given number of elements.
+     *
+     * @param capacity number of elements the buffer must hold
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elems.length)
+            resize(HashTable.tableSizeFor(Math.max(capacity, elems.length * FACTOR)));
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Shrinks the buffer to the smallest power of two holding the elements of the list.
+     */
+    public void trimToSize() {
+        int capacity = HashTable.tableSizeFor(Math.max(counter, 1));
+        if (capacity < elems.length)
+            resize(capacity);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Copies the elements to the start of a new buffer with the given capacity,
+     * in two blocks if they wrap around the end of the old one.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        E[] newElems = (E[]) new Object[capacity];
+        int firstPart = Math.min(counter, elems.length - head);
+        System.arraycopy(elems, head, newElems, 0, firstPart);
+        System.arraycopy(elems, 0, newElems, firstPart, counter - firstPart);
+        elems = newElems;
+        head = 0;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(counter);
+        for (int i = 0; i < counter; i++)
+            oos.writeObject(elems[cell(i)]);
+        oos.flush();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        int size = ois.readInt();
+        elems = (E[]) new Object[HashTable.tableSizeFor(Math.max(size, 1))];
+        head = 0;
+        counter = 0;
+        for (int i = 0; i < size; i++)
+            elems[counter++] = (E) ois.readObject();
+    }
+}
@@ -44,7 +44,7 @@ public class ClosedHashIterator<E> implements Iterator<E>{
         E e;
         do {
             e = elems[index++];
-        } while (e == null);
+        } while (e == null || e == ClosedHashTable.REMOVED_CELL);
         current++;
         return e;
     }
@@ -0,0 +1,134 @@
+package dataStructures;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Closed Hash Table Spliterator
+ * Covers a slice of the cells of the table, skipping the empty and removed ones.
+ * A split hands over the first half of the slice, so only the whole table knows its exact size.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class ClosedHashSpliterator<E> implements Spliterator<E> {
+
+    /**
+     * Cells of the table
+     */
+    private final E[] cells;
+
+    /**
+     * Next cell to visit
+     */
+    private int index;
+
+    /**
+     * Cell after the slice
+     */
+    private final int fence;
+
+    /**
+     * Number of elements left, exact until the first split
+     */
+    private int estimate;
+
+    /**
+     * True while the estimate is exact
+     */
+    private boolean sized;
+
+    /**
+     * @param cells cells of the table
+     * @param index first cell of the slice
+     * @param fence cell after the slice
+     * @param estimate number of elements in the slice
+     * @param sized true if the number of elements is exact
+     */
+    ClosedHashSpliterator(E[] cells, int index, int fence, int estimate, boolean sized) {
+        this.cells = cells;
+        this.index = index;
+        this.fence = fence;
+        this.estimate = estimate;
+        this.sized = sized;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return true if the cell holds an element
+     */
+    private boolean isUsed(E cell) {
+        return cell != null && cell != ClosedHashTable.REMOVED_CELL;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Gives the element of the next used cell of the slice to the action.
+     * @return false if there were no more elements
+     */
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        while (index < fence) {
+            E cell = cells[index++];
+            if (isUsed(cell)) {
+                if (estimate > 0)
+                    estimate--;
+                action.accept(cell);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Time complexity: O(n) (linear in the cells of the slice)
+     *
+     * Gives the elements of every used cell left in the slice to the action.
+     */
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        for (; index < fence; index++) {
+            E cell = cells[index];
+            if (isUsed(cell))
+                action.accept(cell);
+        }
+        estimate = 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Hands over the first half of the cells left, estimating each half holds half the elements.
+     * @return spliterator of the first half, null if there are too few cells to split
+     */
+    @Override
+    public Spliterator<E> trySplit() {
+        int middle = (index + fence) >>> 1;
+        if (index >= middle)
+            return null;
+        estimate >>>= 1;
+        sized = false;
+        Spliterator<E> prefix = new ClosedHashSpliterator<>(cells, index, middle, estimate, false);
+        index = middle;
+        return prefix;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return number of elements left, exact if the spliterator was never split
+     */
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return sized ? Spliterator.SIZED | Spliterator.NONNULL : Spliterator.NONNULL;
+    }
+}
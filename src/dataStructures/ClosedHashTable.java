@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serial;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
 
 /**
  * Closed Hash Table
@@ -30,7 +32,17 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> {
     /**
      * Array of entries
      */
-    private Entry<K,V>[] table;
+    private transient Entry<K,V>[] table;
+
+    /**
+     * Hash codes of the keys stored in each cell of the table
+     */
+    private transient int[] hashes;
+
+    /**
+     * Number of cells holding REMOVED_CELL
+     */
+    private transient int removedCells;
 
     /**
      * Constructors
@@ -40,44 +52,82 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> {
         this(DEFAULT_CAPACITY);
     }
 
-    @SuppressWarnings("unchecked")
     public ClosedHashTable( int capacity ){
         super(capacity);
-        int arraySize = HashTable.nextPrime((int) (capacity / IDEAL_LOAD_FACTOR));
+        createTable(HashTable.tableSizeFor((int) (capacity / IDEAL_LOAD_FACTOR)));
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Allocates an empty table with the given length
+     * @param arraySize length of the table
+     */
+    @SuppressWarnings("unchecked")
+    private void createTable(int arraySize) {
         // Compiler gives a warning.
         table = (Entry<K,V>[]) new Entry[arraySize];
-        for ( int i = 0; i < arraySize; i++ )
-            table[i] = null;
+        hashes = new int[arraySize];
+        removedCells = 0;
         maxSize = (int)(arraySize * MAX_LOAD_FACTOR);
     }
 
     /**
-     * Methods for handling collisions.
-     * Returns the hash value of the specified key.
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the home cell of the specified hash code.
      */
-    int hash( K key, int i ){
-        return Math.abs( key.hashCode() + i) % table.length;
+    int index( int hashCode ){
+        return hashCode & (table.length - 1);
     }
 
     /**
-     * Linear Proving
+     * Linear Probing
+     * The key is hashed once by the caller and the search stops at the first cell that was never used.
      * @param key to search
-     * @return the index of the table, where is the entry with the specified key, or null
+     * @param hashCode hash code of the key
+     * @return the index of the table where is the entry with the specified key, or
+     * -(insertion point + 1), where the insertion point is the first removed cell of the
+     * probe sequence or the empty cell that ended it
+     */
+    int searchLinearProving(K key, int hashCode) {
+        int idx = index(hashCode);
+        int removed = NOT_FOUND;
+        for (int i = 0; i < table.length; i++) {
+            Entry<K,V> entry = table[idx];
+            if (entry == null)
+                return -((removed == NOT_FOUND ? idx : removed) + 1);
+            if (entry == REMOVED_CELL) {
+                if (removed == NOT_FOUND)
+                    removed = idx;
+            } else if (hashes[idx] == hashCode && entry.key().equals(key))
+                return idx;
+            idx = (idx + 1) & (table.length - 1);
+        }
+        return -(removed + 1);
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Returns the first empty cell of the probe sequence of the hash code.
+     * Only used on tables without removed cells, while rehashing.
      */
-    int searchLinearProving(K key) {
-        int idx = NOT_FOUND;
-        int i = 0;
-        while (idx == NOT_FOUND && i < table.length) {
-            int hash = hash(key,i);
-            if (table[hash(key,i)] != null && table[hash(key,i)].key().equals(key))
-                idx = hash;
-            else
-                i++;
+    private int freeCell(int hashCode) {
+        int idx = index(hashCode);
+        while (table[idx] != null) {
+            idx = (idx + 1) & (table.length - 1);
         }
         return idx;
     }
-    
+
     /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
      * If there is an entry in the dictionary whose key is the specified key,
      * returns its value; otherwise, returns null.
      *
@@ -87,13 +137,17 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> {
      */
     @Override
     public V get(K key) {
-        int index = searchLinearProving(key);
-        if (index == NOT_FOUND)
+        int index = searchLinearProving(key, spread(key.hashCode()));
+        if (index < 0)
             return null;
-        return table[searchLinearProving(key)].value();
+        return table[index].value();
     }
 
     /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
      * If there is an entry in the dictionary whose key is the specified key,
      * replaces its value by the specified value and returns the old value;
      * otherwise, inserts the entry (key, value) and returns null.
@@ -105,41 +159,57 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> {
      */
     @Override
     public V put(K key, V value) {
-        if (isFull())
+        int hashCode = spread(key.hashCode());
+        int idx = searchLinearProving(key, hashCode);
+        if (idx >= 0) {
+            V oldValue = table[idx].value();
+            table[idx] = new Entry<>(key,value);
+            return oldValue;
+        }
+        idx = -(idx + 1);
+        if (table[idx] == REMOVED_CELL)
+            removedCells--;
+        else if (currentSize + removedCells >= maxSize) {
             rehash();
-        int idx = hash(key,0);
-        Entry<K,V> oldValue = table[idx];
-        int i = 0;
-        while (oldValue != null && (!oldValue.key().equals(key) || oldValue.key() != key) && i < table.length) {
-            i++;
-            idx = hash(key,i);
-            oldValue = table[idx];
+            idx = freeCell(hashCode);
         }
         table[idx] = new Entry<>(key,value);
-        if (oldValue != null)
-            return oldValue.value();
+        hashes[idx] = hashCode;
         currentSize++;
         return null;
     }
 
-     private void rehash(){
-         Entry<K,V>[] oldTable = table;
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Moves every entry to a new table, dropping the removed cells.
+     * The table only grows if the removed cells are not the main reason it got full.
+     */
+    private void rehash(){
+        Entry<K,V>[] oldTable = table;
+        int[] oldHashes = hashes;
 
-         int newCapacity = nextPrime(table.length * GROWTH_FACTOR);
-         table = (Entry<K,V>[]) new Entry[newCapacity];
+        if (removedCells > currentSize)
+            createTable(oldTable.length);
+        else
+            createTable(tableSizeFor(oldTable.length * GROWTH_FACTOR));
 
-         maxSize = (int) (newCapacity * MAX_LOAD_FACTOR);
+        for (int i = 0; i < oldTable.length; i++) {
+            Entry<K,V> entry = oldTable[i];
+            if (entry != null && entry != REMOVED_CELL) {
+                int idx = freeCell(oldHashes[i]);
+                table[idx] = entry;
+                hashes[idx] = oldHashes[i];
+            }
+        }
+    }
 
-         for (Entry<K, V> entry : oldTable) {
-             if (entry != null && entry != REMOVED_CELL) {
-                 int idx = searchLinearProving(entry.key());
-                 table[idx] = entry;
-             }
-         }
-     }
 
-   
     /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
      * If there is an entry in the dictionary whose key is the specified key,
      * removes it from the dictionary and returns its value;
      * otherwise, returns null.
@@ -149,13 +219,27 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> {
      * or null if the dictionary does not an entry with that key
      */
     @Override
+    @SuppressWarnings("unchecked")
     public V remove(K key) {
-        int idx = searchLinearProving(key);
-        V oldValue = table[idx].value();
-        if (oldValue == null)
+        int idx = searchLinearProving(key, spread(key.hashCode()));
+        if (idx < 0)
             return null;
-        table[idx] = (Entry<K, V>) REMOVED_CELL;
+        V oldValue = table[idx].value();
         currentSize--;
+        int next = (idx + 1) & (table.length - 1);
+        if (table[next] != null) {
+            table[idx] = (Entry<K, V>) REMOVED_CELL;
+            removedCells++;
+            return oldValue;
+        }
+        // No probe sequence goes through this cell, neither through the removed cells just before it
+        table[idx] = null;
+        int previous = (idx - 1) & (table.length - 1);
+        while (table[previous] == REMOVED_CELL) {
+            table[previous] = null;
+            removedCells--;
+            previous = (previous - 1) & (table.length - 1);
+        }
         return oldValue;
     }
 
@@ -169,6 +253,31 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> {
         return new ClosedHashIterator<>(table, currentSize);
     }
 
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Performs the action on every entry, walking the table directly.
+     * @param action action to perform on each key and value
+     */
+    @Override
+    public void forEachEntry(BiConsumer<? super K, ? super V> action) {
+        for (Entry<K,V> entry : table) {
+            if (entry != null && entry != REMOVED_CELL)
+                action.accept(entry.key(), entry.value());
+        }
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns a spliterator of the entries in the dictionary, splitting the table into halves.
+     * @return spliterator of the entries in the dictionary
+     */
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return new ClosedHashSpliterator<>(table, 0, table.length, currentSize, true);
+    }
+
     @Serial
     private void writeObject(ObjectOutputStream oos) throws IOException {
         oos.defaultWriteObject();
@@ -176,7 +285,7 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> {
         oos.writeInt(maxSize);
         oos.writeInt(table.length);
         for(int i = 0; i < table.length; i++){
-            oos.writeObject(table[i]);
+            oos.writeObject(table[i] == REMOVED_CELL ? null : table[i]);
         }
         oos.flush();
     }
@@ -184,12 +293,22 @@ public class ClosedHashTable<K,V> extends HashTable<K,V> {
     @Serial
     private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
         ois.defaultReadObject();
-        currentSize = ois.readInt();
-        maxSize = ois.readInt();
+        ois.readInt();
+        ois.readInt();
         int tableSize = ois.readInt();
-        table = (Entry<K,V>[]) new Entry[tableSize];
+        createTable(tableSizeFor(tableSize));
+        currentSize = 0;
         for (int i = 0; i < tableSize; i++){
-            table[i] = (Entry<K, V>) ois.readObject();
+            @SuppressWarnings("unchecked")
+            Entry<K,V> entry = (Entry<K, V>) ois.readObject();
+            // Older files may hold copies of REMOVED_CELL, whose key is null
+            if (entry != null && entry.key() != null) {
+                int hashCode = spread(entry.key().hashCode());
+                int idx = freeCell(hashCode);
+                table[idx] = entry;
+                hashes[idx] = hashCode;
+                currentSize++;
+            }
         }
     }
 
@@ -0,0 +1,247 @@
+package dataStructures;
+
+import java.io.Serial;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Concurrent Hash Table
+ * The keys are split by hash code among segments, each one a Robin Hood Hash Table
+ * guarded by its own read-write lock. Operations on different segments never wait for
+ * each other, readers of the same segment share its lock, and each segment grows on its own.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class ConcurrentHashTable<K,V> implements Map<K,V> {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    // Default number of segments
+    static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    // Largest number of segments
+    static final int MAX_SEGMENTS = 1 << 16;
+
+    /**
+     * Segments of the table
+     */
+    private final RobinHoodHashTable<K,V>[] segments;
+
+    /**
+     * Lock of each segment
+     */
+    private final ReentrantReadWriteLock[] locks;
+
+    /**
+     * Shift that leaves the bits of the hash code selecting the segment
+     */
+    private final int segmentShift;
+
+    /**
+     * Number of entries in the table
+     */
+    private final AtomicInteger currentSize;
+
+    /**
+     * Constructors
+     */
+
+    public ConcurrentHashTable( ){
+        this(HashTable.DEFAULT_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    public ConcurrentHashTable( int capacity ){
+        this(capacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * @param capacity predicted number of entries
+     * @param concurrencyLevel predicted number of threads updating the table at the same time
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentHashTable( int capacity, int concurrencyLevel ){
+        int segmentCount = HashTable.tableSizeFor(Math.min(concurrencyLevel, MAX_SEGMENTS));
+        segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        segments = (RobinHoodHashTable<K,V>[]) new RobinHoodHashTable[segmentCount];
+        locks = new ReentrantReadWriteLock[segmentCount];
+        int segmentCapacity = Math.max(capacity / segmentCount, 1);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new RobinHoodHashTable<>(segmentCapacity);
+            locks[i] = new ReentrantReadWriteLock();
+        }
+        currentSize = new AtomicInteger(0);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the segment of the specified key, chosen by the high bits of its hash code,
+     * while the segment itself uses the low ones.
+     */
+    private int segmentFor( K key ){
+        return HashTable.spread(key.hashCode()) >>> segmentShift & (segments.length - 1);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return currentSize.get() == 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    @Override
+    public int size() {
+        return currentSize.get();
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     * Only waits for writers of the segment of the key.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V get(K key) {
+        int segment = segmentFor(key);
+        ReentrantReadWriteLock.ReadLock lock = locks[segment].readLock();
+        lock.lock();
+        try {
+            return segments[segment].get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     * Only locks the segment of the key.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V put(K key, V value) {
+        int segment = segmentFor(key);
+        ReentrantReadWriteLock.WriteLock lock = locks[segment].writeLock();
+        lock.lock();
+        try {
+            RobinHoodHashTable<K,V> table = segments[segment];
+            int size = table.size();
+            V oldValue = table.put(key, value);
+            if (table.size() != size)
+                currentSize.incrementAndGet();
+            return oldValue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * Only locks the segment of the key.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    public V remove(K key) {
+        int segment = segmentFor(key);
+        ReentrantReadWriteLock.WriteLock lock = locks[segment].writeLock();
+        lock.lock();
+        try {
+            RobinHoodHashTable<K,V> table = segments[segment];
+            int size = table.size();
+            V oldValue = table.remove(key);
+            if (table.size() != size)
+                currentSize.decrementAndGet();
+            return oldValue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Returns an iterator of the entries in the dictionary.
+     * Each segment is copied while holding its read lock, one at a time, so the iteration
+     * never fails because of concurrent updates, but may miss the ones made while copying.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        List<Entry<K,V>> snapshot = new ListInArray<>(Math.max(size(), 1));
+        for (int i = 0; i < segments.length; i++) {
+            ReentrantReadWriteLock.ReadLock lock = locks[i].readLock();
+            lock.lock();
+            try {
+                Iterator<Entry<K,V>> it = segments[i].iterator();
+                while (it.hasNext())
+                    snapshot.addLast(it.next());
+            } finally {
+                lock.unlock();
+            }
+        }
+        return snapshot.iterator();
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public Iterator<V> values() {
+        return new ValuesIterator(iterator());
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public Iterator<K> keys() {
+        return new KeysIterator(iterator());
+    }
+}
@@ -0,0 +1,485 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyMapException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent Skip List Sorted Map
+ * The entries are kept in a sorted linked list, and each node is also linked in a random number
+ * of express lists above it, so searches skip most nodes and take O(log n) expected time.
+ * Searches, gets and iterations never lock. Updates lock only the nodes just before the changed one,
+ * so threads updating different parts of the map never wait for each other.
+ * A node is first marked and then unlinked, so readers that reach a removed node still find their way.
+ * Iterations are weakly consistent: they see every entry present for the whole iteration,
+ * and may or may not see the ones put or removed meanwhile.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class ConcurrentSkipListSortedMap<K extends Comparable<K>,V> implements SortedMap<K,V> {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    // Number of levels, enough for 2^32 expected entries
+    static final int MAX_LEVEL = 32;
+
+    // What an iterator returns
+    static final int ENTRIES = 0;
+    static final int KEYS = 1;
+    static final int VALUES = 2;
+
+    /**
+     * Node before the first one at every level, with no entry
+     */
+    private transient SkipListNode<K,V> head;
+
+    /**
+     * Number of entries in the map
+     */
+    private transient AtomicInteger currentSize;
+
+    /**
+     * Constructor
+     */
+
+    public ConcurrentSkipListSortedMap( ){
+        createList();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Starts an empty list
+     */
+    private void createList() {
+        head = new SkipListNode<>(null, null, MAX_LEVEL - 1);
+        head.fullyLinked = true;
+        currentSize = new AtomicInteger(0);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return a random level, each level half as likely as the one below
+     */
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | 1 << (MAX_LEVEL - 1));
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return currentSize.get() == 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    @Override
+    public int size() {
+        return currentSize.get();
+    }
+
+    /**
+     * Time complexity: O(log n) expected
+     *
+     * Fills, for every level, the last node with a smaller key and the node after it.
+     * @param key key to search
+     * @param preds last node with a smaller key at each level
+     * @param succs node after it at each level
+     * @return highest level where the node with the key was found, -1 if it was not found
+     */
+    private int find(K key, SkipListNode<K,V>[] preds, SkipListNode<K,V>[] succs) {
+        int found = -1;
+        SkipListNode<K,V> pred = head;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            SkipListNode<K,V> curr = pred.next.get(level);
+            while (curr != null && key.compareTo(curr.key) > 0) {
+                pred = curr;
+                curr = pred.next.get(level);
+            }
+            if (found == -1 && curr != null && key.compareTo(curr.key) == 0)
+                found = level;
+            preds[level] = pred;
+            succs[level] = curr;
+        }
+        return found;
+    }
+
+    /**
+     * Time complexity: O(log n) expected
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     * Never locks.
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V get(K key) {
+        SkipListNode<K,V> pred = head;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            SkipListNode<K,V> curr = pred.next.get(level);
+            while (curr != null) {
+                int comp = key.compareTo(curr.key);
+                if (comp == 0)
+                    return curr.isLive() ? curr.value : null;
+                if (comp < 0)
+                    break;
+                pred = curr;
+                curr = pred.next.get(level);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Time complexity: O(log n) expected
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     * A new node is linked while holding the locks of its predecessors at its levels,
+     * after checking they are still linked to the nodes found; otherwise the search is repeated.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int topLevel = randomLevel();
+        SkipListNode<K,V>[] preds = new SkipListNode[MAX_LEVEL];
+        SkipListNode<K,V>[] succs = new SkipListNode[MAX_LEVEL];
+        while (true) {
+            int found = find(key, preds, succs);
+            if (found != -1) {
+                SkipListNode<K,V> node = succs[found];
+                if (!node.marked) {
+                    while (!node.fullyLinked)
+                        Thread.onSpinWait();
+                    node.lock.lock();
+                    try {
+                        if (!node.marked) {
+                            V oldValue = node.value;
+                            node.value = value;
+                            return oldValue;
+                        }
+                    } finally {
+                        node.lock.unlock();
+                    }
+                }
+                // the node is being removed, search again once it is unlinked
+                continue;
+            }
+            int highestLocked = -1;
+            try {
+                boolean valid = true;
+                for (int level = 0; valid && level <= topLevel; level++) {
+                    SkipListNode<K,V> pred = preds[level];
+                    SkipListNode<K,V> succ = succs[level];
+                    pred.lock.lock();
+                    highestLocked = level;
+                    valid = !pred.marked && (succ == null || !succ.marked) && pred.next.get(level) == succ;
+                }
+                if (!valid)
+                    continue;
+                SkipListNode<K,V> node = new SkipListNode<>(key, value, topLevel);
+                for (int level = 0; level <= topLevel; level++)
+                    node.next.set(level, succs[level]);
+                for (int level = 0; level <= topLevel; level++)
+                    preds[level].next.set(level, node);
+                node.fullyLinked = true;
+                currentSize.incrementAndGet();
+                return null;
+            } finally {
+                for (int level = 0; level <= highestLocked; level++)
+                    preds[level].lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Time complexity: O(log n) expected
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * The node is marked while holding its lock, which removes its entry,
+     * and then unlinked while holding the locks of its predecessors.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        SkipListNode<K,V>[] preds = new SkipListNode[MAX_LEVEL];
+        SkipListNode<K,V>[] succs = new SkipListNode[MAX_LEVEL];
+        SkipListNode<K,V> victim = null;
+        V oldValue = null;
+        boolean isMarked = false;
+        while (true) {
+            int found = find(key, preds, succs);
+            if (!isMarked) {
+                if (found == -1)
+                    return null;
+                victim = succs[found];
+                if (!victim.fullyLinked || victim.topLevel != found || victim.marked)
+                    return null;
+                victim.lock.lock();
+                if (victim.marked) {
+                    victim.lock.unlock();
+                    return null;
+                }
+                oldValue = victim.value;
+                victim.marked = true;
+                isMarked = true;
+            }
+            int highestLocked = -1;
+            try {
+                boolean valid = true;
+                for (int level = 0; valid && level <= victim.topLevel; level++) {
+                    SkipListNode<K,V> pred = preds[level];
+                    pred.lock.lock();
+                    highestLocked = level;
+                    valid = !pred.marked && pred.next.get(level) == victim;
+                }
+                if (!valid)
+                    continue;
+                for (int level = victim.topLevel; level >= 0; level--)
+                    preds[level].next.set(level, victim.next.get(level));
+                victim.lock.unlock();
+                currentSize.decrementAndGet();
+                return oldValue;
+            } finally {
+                for (int level = 0; level <= highestLocked; level++)
+                    preds[level].lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     *
+     * @param node a node of the list, even if it was removed
+     * @return next node whose entry is in the map, null if there is none
+     */
+    SkipListNode<K,V> successor(SkipListNode<K,V> node) {
+        SkipListNode<K,V> next = node.next.get(0);
+        while (next != null && !next.isLive())
+            next = next.next.get(0);
+        return next;
+    }
+
+    /**
+     * Time complexity: O(log n) expected
+     *
+     * @param key key
+     * @return first node whose entry is in the map with a key not smaller than the specified key,
+     * null if there is none
+     */
+    private SkipListNode<K,V> ceiling(K key) {
+        SkipListNode<K,V> pred = head;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            SkipListNode<K,V> curr = pred.next.get(level);
+            while (curr != null && key.compareTo(curr.key) > 0) {
+                pred = curr;
+                curr = pred.next.get(level);
+            }
+        }
+        return successor(pred);
+    }
+
+    /**
+     * Time complexity: O(log n) expected
+     *
+     * Searches the list from the top, as its nodes only link forward.
+     * @param key key, null to find the last node
+     * @param inclusive true if the node may have the key itself
+     * @return last node whose entry is in the map with a smaller key,
+     * or not larger if inclusive, null if there is none
+     */
+    SkipListNode<K,V> lower(K key, boolean inclusive) {
+        while (true) {
+            SkipListNode<K,V> pred = head;
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                SkipListNode<K,V> curr = pred.next.get(level);
+                while (curr != null) {
+                    int comp = key == null ? -1 : curr.key.compareTo(key);
+                    if (comp > 0 || comp == 0 && !inclusive)
+                        break;
+                    pred = curr;
+                    curr = pred.next.get(level);
+                }
+            }
+            if (pred == head)
+                return null;
+            if (pred.isLive())
+                return pred;
+            // the node was removed meanwhile, search for the one before it
+            key = pred.key;
+            inclusive = false;
+        }
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @param node a node of the list
+     * @param kind ENTRIES, KEYS or VALUES
+     * @return the entry, key or value of the node
+     */
+    Object element(SkipListNode<K,V> node, int kind) {
+        if (kind == KEYS)
+            return node.key;
+        if (kind == VALUES)
+            return node.value;
+        return new Entry<>(node.key, node.value);
+    }
+
+    /**
+     * Time complexity: O(1) (constant) expected
+     *
+     * Returns the entry with the smallest key in the dictionary.
+     * @return the min entry
+     * @throws EmptyMapException -> if size = 0
+     */
+    @Override
+    public Entry<K, V> minEntry() {
+        SkipListNode<K,V> node = successor(head);
+        if (node == null)
+            throw new EmptyMapException();
+        return new Entry<>(node.key, node.value);
+    }
+
+    /**
+     * Time complexity: O(log n) expected
+     *
+     * Returns the entry with the largest key in the dictionary.
+     * @return the max entry
+     * @throws EmptyMapException -> if size = 0
+     */
+    @Override
+    public Entry<K, V> maxEntry() {
+        SkipListNode<K,V> node = lower(null, false);
+        if (node == null)
+            throw new EmptyMapException();
+        return new Entry<>(node.key, node.value);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns a weakly consistent iterator of the entries in the dictionary.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new SkipListIterator<>(this, ENTRIES, successor(head), false);
+    }
+
+    /**
+     * Time complexity: O(log n) expected
+     *
+     * Returns a weakly consistent iterator of the entries whose keys are not smaller
+     * than the specified key, in ascending order.
+     * @param from smallest key to iterate
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> tailIterator(K from) {
+        return new SkipListIterator<>(this, ENTRIES, ceiling(from), false);
+    }
+
+    /**
+     * Time complexity: O(log n) expected
+     *
+     * Returns a weakly consistent iterator of the entries in the dictionary, in descending order.
+     * Each step searches the predecessor from the top, taking O(log n) expected time.
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator() {
+        return new SkipListIterator<>(this, ENTRIES, lower(null, false), true);
+    }
+
+    /**
+     * Time complexity: O(log n) expected
+     *
+     * Returns a weakly consistent iterator of the entries whose keys are not larger
+     * than the specified key, in descending order.
+     * Each step searches the predecessor from the top, taking O(log n) expected time.
+     * @param from largest key to iterate
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator(K from) {
+        return new SkipListIterator<>(this, ENTRIES, lower(from, true), true);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns a weakly consistent iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    public Iterator<V> values() {
+        return new SkipListIterator<>(this, VALUES, successor(head), false);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns a weakly consistent iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    public Iterator<K> keys() {
+        return new SkipListIterator<>(this, KEYS, successor(head), false);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        for (SkipListNode<K,V> node = successor(head); node != null; node = successor(node)) {
+            oos.writeObject(node.key);
+            oos.writeObject(node.value);
+        }
+        // keys are never null, so a null key ends the entries
+        oos.writeObject(null);
+        oos.flush();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        createList();
+        K key;
+        while ((key = (K) ois.readObject()) != null)
+            put(key, (V) ois.readObject());
+    }
+}
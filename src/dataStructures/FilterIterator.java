@@ -4,6 +4,7 @@ import dataStructures.exceptions.NoSuchElementException;
 
 /**
  * Iterator Abstract Data Type with Filter
+ * The next matching element is only searched for when it is asked for.
  *
  * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
  * @param <E> Generic Element
@@ -26,6 +27,16 @@ public class FilterIterator<E> implements Iterator<E> {
      */
     private E nextToReturn;
 
+    /**
+     * True if the next element was already searched for
+     */
+    private boolean ready;
+
+    /**
+     * True if the search found a next element
+     */
+    private boolean found;
+
     /**
      *
      * @param list to be iterated
@@ -34,18 +45,22 @@ public class FilterIterator<E> implements Iterator<E> {
     public FilterIterator(Iterator<E> list, Predicate<E> criterion) {
         this.iterator = list;
         this.filter = criterion;
-        advanceNext();
+        this.ready = false;
     }
 
     /**
-     * Time complexity: O(1) (constant)
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
      *
      * Returns true if next would return an element
      *
      * @return true iff the iteration has more elements
      */
     public boolean hasNext() {
-        return nextToReturn != null;
+        if (!ready)
+            advanceNext();
+        return found;
     }
 
     /**
@@ -61,22 +76,19 @@ public class FilterIterator<E> implements Iterator<E> {
     public E next() {
         if (!hasNext())
             throw new NoSuchElementException();
-        E tmp = nextToReturn;
-        advanceNext();
-        return tmp;
+        ready = false;
+        return nextToReturn;
     }
 
     /**
-     * Time complexity
-     * Best scenario: O(1) (constant)
-     * Worst scenario: O(n) (linear)
+     * Time complexity: O(1) (constant) plus the rewind of the iterator
      *
      * Restarts the iteration.
      * After rewind, if the iteration is not empty, next will return the first element.
      */
     public void rewind() {
         iterator.rewind();
-        advanceNext();
+        ready = false;
     }
 
     /**
@@ -87,12 +99,14 @@ public class FilterIterator<E> implements Iterator<E> {
      * Finds the next element matching filter criteria
      */
     private void advanceNext(){
+        ready = true;
+        found = false;
         nextToReturn = null;
-        E element;
-        while (iterator.hasNext() && nextToReturn == null) {
-            element = iterator.next();
+        while (iterator.hasNext() && !found) {
+            E element = iterator.next();
             if (filter.check(element)) {
                 nextToReturn = element;
+                found = true;
             }
         }
     }
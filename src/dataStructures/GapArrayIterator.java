@@ -0,0 +1,97 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Iterator of the elements of an array with a gap of unused cells, skipping the gap
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class GapArrayIterator<E> implements Iterator<E> {
+
+    /**
+     * Elements, in order except for the gap
+     */
+    private final Object[] elems;
+
+    /**
+     * First cell of the gap
+     */
+    private final int gapStart;
+
+    /**
+     * Number of cells of the gap
+     */
+    private final int gapLength;
+
+    /**
+     * Position of the first element to return
+     */
+    private final int first;
+
+    /**
+     * Number of elements of the array
+     */
+    private final int counter;
+
+    /**
+     * Position of the next element to return
+     */
+    private int current;
+
+    /**
+     * @param elems array of the elements
+     * @param gapStart first cell of the gap
+     * @param gapEnd cell after the gap
+     * @param first position of the first element to return
+     * @param counter number of elements of the array
+     */
+    public GapArrayIterator(Object[] elems, int gapStart, int gapEnd, int first, int counter) {
+        this.elems = elems;
+        this.gapStart = gapStart;
+        this.gapLength = gapEnd - gapStart;
+        this.first = first;
+        this.counter = counter;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return current < counter;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        int position = current++;
+        return (E) elems[position < gapStart ? position : position + gapLength];
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @Override
+    public void rewind() {
+        current = first;
+    }
+}
@@ -1,5 +1,7 @@
 package dataStructures;
 
+import java.io.Serial;
+
 /**
  * Hash Table
  *
@@ -9,6 +11,11 @@ package dataStructures;
  */
 abstract class HashTable<K,V> implements Map<K,V>{
 
+     // Pinned to the value computed for the original class, so the tables inside subjects saved
+     // before the power of two sizes still load, and are resized as they are read.
+     @Serial
+     private static final long serialVersionUID = 6708651602162709413L;
+
      // Default size of the hash table.
      static final int DEFAULT_CAPACITY = 50;
 
@@ -42,25 +49,31 @@ abstract class HashTable<K,V> implements Map<K,V>{
      }
      // Protected Static Methods
 
-     // Returns a prime number that is not less than the
-     // specified number; or zero if all such primes are greater
-     // than Integer.MAX VALUE.
-     protected static int nextPrime( int number ){
-
-         boolean prime = false;
-         do {
-             number++;
-             int i = 2;
-             while (number % i != 0 && i < number) {
-                 i++;
-             }
-             if (number == i)
-                 prime = true;
-         } while (!prime && number < Integer.MAX_VALUE);
-
-         if (number > Integer.MAX_VALUE)
-             return 0;
-         return number;
+     // Largest length of a table, the biggest power of two an array can have.
+     protected static final int MAXIMUM_CAPACITY = 1 << 30;
+
+     // Returns the smallest power of two that is not less than the
+     // specified number, and not less than 2; or MAXIMUM_CAPACITY if
+     // it is greater than MAXIMUM_CAPACITY.
+     protected static int tableSizeFor( int number ){
+         if (number <= 2)
+             return 2;
+         if (number >= MAXIMUM_CAPACITY)
+             return MAXIMUM_CAPACITY;
+         return Integer.highestOneBit(number - 1) << 1;
+     }
+
+     // Mixes every bit of the specified hash code into the low bits,
+     // so a power of two table can select the cell with a mask.
+     // (finalization step of MurmurHash3)
+     protected static int spread( int hashCode ){
+         int h = hashCode;
+         h ^= h >>> 16;
+         h *= 0x85ebca6b;
+         h ^= h >>> 13;
+         h *= 0xc2b2ae35;
+         h ^= h >>> 16;
+         return h;
      }
 
      // Returns true iff the hash table cannot contain more entries.
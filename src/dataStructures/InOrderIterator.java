@@ -4,6 +4,7 @@ import dataStructures.exceptions.NoSuchElementException;
 
 /**
  * In-order Binary Tree iterator
+ * May start at any node and go in descending order, walking the parent links from there.
  *
  * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
  * @param <E> Generic Element
@@ -16,16 +17,30 @@ public class InOrderIterator<E> implements Iterator<E> {
     private BTNode<E> next;
 
     /**
-     * Root Node
+     * Node with the first element
      */
-    private BTNode<E> root;
+    private final BTNode<E> first;
+
+    /**
+     * True if the iteration is in descending order
+     */
+    private final boolean descending;
 
     /**
      *
      * @param root
      */
     public  InOrderIterator(BTNode<E> root) {
-        this.root=root;
+        this(root == null ? null : root.furtherLeftElement(), false);
+    }
+
+    /**
+     * @param first node with the first element, null for an empty iteration
+     * @param descending true to iterate in descending order
+     */
+    InOrderIterator(BTNode<E> first, boolean descending) {
+        this.first = first;
+        this.descending = descending;
         rewind();
     }
 
@@ -63,6 +78,10 @@ public class InOrderIterator<E> implements Iterator<E> {
      * Advances to the next to iterate
      */
     private void advance() {
+        if (descending) {
+            retreat();
+            return;
+        }
         if (next.getRightChild() != null) {
             next = ((BTNode<E>) next.getRightChild()).furtherLeftElement();
         }
@@ -76,17 +95,33 @@ public class InOrderIterator<E> implements Iterator<E> {
         }
     }
 
-
     /**
      * Time complexity: O(n) (linear)
      *
+     * Goes back to the previous to iterate
+     */
+    private void retreat() {
+        if (next.getLeftChild() != null) {
+            next = ((BTNode<E>) next.getLeftChild()).furtherRightElement();
+        }
+        else {
+            BTNode<E> parent = (BTNode<E>) next.getParent();
+            while (parent != null && next == parent.getLeftChild()) {
+                next = parent;
+                parent = (BTNode<E>) parent.getParent();
+            }
+            next = parent;
+        }
+    }
+
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
      * Restarts the iteration.
      * After rewind, if the iteration is not empty, next will return the first element.
      */
     public void rewind() {
-        if (root==null)
-            next=null;
-        else
-            next=root.furtherLeftElement();
+        next=first;
     }
 }
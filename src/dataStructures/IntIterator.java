@@ -0,0 +1,32 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Iterator of primitive ints, which are returned without boxing
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ */
+public interface IntIterator {
+
+    /**
+     * Returns true if nextInt would return an element
+     * rather than throwing an exception.
+     * @return true iff the iteration has more elements
+     */
+    boolean hasNext( );
+
+    /**
+     * Returns the next element in the iteration.
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    int nextInt( );
+
+    /**
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, nextInt will return the first element.
+     */
+    void rewind();
+
+}
@@ -0,0 +1,16 @@
+package dataStructures;
+
+/**
+ * Action on an entry with a primitive int key, which is given without boxing
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <V> Generic Value
+ */
+public interface IntObjectConsumer<V> {
+    /**
+     * Performs the action on the entry
+     * @param key key of the entry
+     * @param value value of the entry
+     */
+    void accept(int key, V value);
+}
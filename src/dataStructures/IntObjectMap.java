@@ -0,0 +1,323 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.function.Consumer;
+
+/**
+ * Hash Table with primitive int keys
+ * Keys are stored inline in an int array, so no lookup boxes its key.
+ * Removals shift the following entries back, so no removed cells are left behind.
+ * Null values are not stored, putting a null value removes the key.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <V> Generic Value
+ */
+public class IntObjectMap<V> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    //Load factors
+    static final float IDEAL_LOAD_FACTOR =0.5f;
+    static final float MAX_LOAD_FACTOR =0.75f;
+    static final int NOT_FOUND=-1;
+    static final int GROWTH_FACTOR =2;
+
+    /**
+     * Keys of the table
+     */
+    private transient int[] keys;
+
+    /**
+     * Values of the table, null if the cell is empty
+     */
+    private transient Object[] values;
+
+    /**
+     * Number of entries in the table
+     */
+    private transient int currentSize;
+
+    /**
+     * Number of entries to reach MAX_LOAD_FACTOR
+     */
+    private transient int maxSize;
+
+    /**
+     * Constructors
+     */
+
+    public IntObjectMap( ){
+        this(HashTable.DEFAULT_CAPACITY);
+    }
+
+    public IntObjectMap( int capacity ){
+        createTable(HashTable.tableSizeFor((int) (capacity / IDEAL_LOAD_FACTOR)));
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Allocates empty arrays with the given length
+     * @param arraySize length of the arrays
+     */
+    private void createTable(int arraySize) {
+        keys = new int[arraySize];
+        values = new Object[arraySize];
+        currentSize = 0;
+        maxSize = (int)(arraySize * MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the home cell of the specified key.
+     */
+    private int index( int key ){
+        return HashTable.spread(key) & (keys.length - 1);
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Linear Probing
+     * @param key to search
+     * @return the index of the specified key, or -(empty cell that ended the search + 1)
+     */
+    private int search(int key) {
+        int idx = index(key);
+        while (values[idx] != null) {
+            if (keys[idx] == key)
+                return idx;
+            idx = (idx + 1) & (keys.length - 1);
+        }
+        return -(idx + 1);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Returns true iff there is an entry in the dictionary whose key is the specified key.
+     * @param key to search
+     * @return true if the dictionary has an entry with that key
+     */
+    public boolean containsKey(int key) {
+        return search(key) >= 0;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int idx = search(key);
+        if (idx < 0)
+            return null;
+        return (V) values[idx];
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key, null removes the entry
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null)
+            return remove(key);
+        int idx = search(key);
+        if (idx >= 0) {
+            V oldValue = (V) values[idx];
+            values[idx] = value;
+            return oldValue;
+        }
+        if (currentSize >= maxSize) {
+            rehash();
+            idx = search(key);
+        }
+        idx = -(idx + 1);
+        keys[idx] = key;
+        values[idx] = value;
+        currentSize++;
+        return null;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Moves every entry to arrays with double the length.
+     */
+    private void rehash() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        int size = currentSize;
+        createTable(HashTable.tableSizeFor(oldKeys.length * GROWTH_FACTOR));
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int idx = -(search(oldKeys[i]) + 1);
+                keys[idx] = oldKeys[i];
+                values[idx] = oldValues[i];
+            }
+        }
+        currentSize = size;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * The following entries of the cluster that can move closer to their home cell are shifted back.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int idx = search(key);
+        if (idx < 0)
+            return null;
+        V oldValue = (V) values[idx];
+        int mask = keys.length - 1;
+        int next = (idx + 1) & mask;
+        while (values[next] != null) {
+            int home = index(keys[next]);
+            // moves the entry if the hole lies between its home cell and its cell
+            if (((next - home) & mask) >= ((next - idx) & mask)) {
+                keys[idx] = keys[next];
+                values[idx] = values[next];
+                idx = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[idx] = null;
+        currentSize--;
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    public Iterator<V> values() {
+        return new ArrayHashIterator<>(values, values, currentSize);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the keys in the dictionary, without boxing them.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    public IntIterator keys() {
+        return new ArrayIntIterator(keys, values, currentSize);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     * Performs the action on every value, walking the table directly.
+     *
+     * @param action action to perform on each value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super V> action) {
+        for (Object value : values) {
+            if (value != null)
+                action.accept((V) value);
+        }
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     * Performs the action on every entry, walking the table directly, with no boxing.
+     *
+     * @param action action to perform on each key and value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachEntry(IntObjectConsumer<? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null)
+                action.accept(keys[i], (V) values[i]);
+        }
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(keys.length);
+        oos.writeInt(currentSize);
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                oos.writeInt(keys[i]);
+                oos.writeObject(values[i]);
+            }
+        }
+        oos.flush();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        createTable(HashTable.tableSizeFor(ois.readInt()));
+        int size = ois.readInt();
+        for (int i = 0; i < size; i++) {
+            int key = ois.readInt();
+            int idx = -(search(key) + 1);
+            keys[idx] = key;
+            values[idx] = ois.readObject();
+        }
+        currentSize = size;
+    }
+}
@@ -0,0 +1,391 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyMapException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Sorted Map with primitive int keys
+ * Keys are stored inline in a sorted int array, with the values in a parallel array,
+ * so searches are binary searches over primitives and nothing is boxed.
+ * The arrays keep a gap of free cells where the last update happened. Keys are mostly
+ * added in order or near each other, so the gap seldom moves far and most insertions take
+ * O(1) (constant) time after the search. An update far from the last one moves the gap there,
+ * shifting the entries in between.
+ * Null values are not stored, putting a null value removes the key.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <V> Generic Value
+ */
+public class IntSortedMap<V> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    static final int DEFAULT_CAPACITY = 50;
+    static final int GROWTH_FACTOR = 2;
+
+    /**
+     * Keys in ascending order, except for the cells of the gap
+     */
+    private transient int[] keys;
+
+    /**
+     * Value of each key, null in the cells of the gap
+     */
+    private transient Object[] values;
+
+    /**
+     * First cell of the gap, which is also the position of the entry after it
+     */
+    private transient int gapStart;
+
+    /**
+     * Cell after the gap
+     */
+    private transient int gapEnd;
+
+    /**
+     * Constructors
+     */
+
+    public IntSortedMap( ){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntSortedMap( int capacity ){
+        createMap(Math.max(capacity, 1));
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Allocates empty arrays with the given length, all of them gap
+     * @param length length of the arrays
+     */
+    private void createMap(int length) {
+        keys = new int[length];
+        values = new Object[length];
+        gapStart = 0;
+        gapEnd = length;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @param position position of an entry in the key order
+     * @return cell of the entry
+     */
+    private int cell(int position) {
+        return position < gapStart ? position : position + gapEnd - gapStart;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    public int size() {
+        return keys.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the number of keys in the dictionary smaller than the specified key,
+     * which is the position of its entry in the key order if there is one.
+     * Binary search over the positions, skipping the gap.
+     * @param key key
+     * @return number of smaller keys
+     */
+    public int rank(int key) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[cell(middle)] < key)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @param key to search
+     * @return the cell of the specified key, or -(position it would have + 1)
+     */
+    private int search(int key) {
+        int position = rank(key);
+        if (position < size()) {
+            int cell = cell(position);
+            if (keys[cell] == key)
+                return cell;
+        }
+        return -(position + 1);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns true iff there is an entry in the dictionary whose key is the specified key.
+     * @param key to search
+     * @return true if the dictionary has an entry with that key
+     */
+    public boolean containsKey(int key) {
+        return search(key) >= 0;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        int cell = search(key);
+        if (cell < 0)
+            return null;
+        return (V) values[cell];
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(log n) if the key goes next to the last updated one
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) at the start of the gap and returns null.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key, null removes the entry
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null)
+            return remove(key);
+        int cell = search(key);
+        if (cell >= 0) {
+            V oldValue = (V) values[cell];
+            values[cell] = value;
+            return oldValue;
+        }
+        if (gapStart == gapEnd)
+            resize(keys.length * GROWTH_FACTOR);
+        moveGap(-(cell + 1));
+        keys[gapStart] = key;
+        values[gapStart] = value;
+        gapStart++;
+        return null;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(log n) if the key is next to the last updated one
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * The gap is moved to the entry, which then joins it.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int position = rank(key);
+        if (position == size() || keys[cell(position)] != key)
+            return null;
+        moveGap(position);
+        V oldValue = (V) values[gapEnd];
+        values[gapEnd] = null;
+        gapEnd++;
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(|position - gapStart|)
+     *
+     * Moves the gap to the given position, shifting the entries in between across it,
+     * and clears the cells the entries left.
+     * @param position position of the entry that will follow the gap
+     */
+    private void moveGap(int position) {
+        int gapLength = gapEnd - gapStart;
+        if (position < gapStart) {
+            int count = gapStart - position;
+            System.arraycopy(keys, position, keys, position + gapLength, count);
+            System.arraycopy(values, position, values, position + gapLength, count);
+            Arrays.fill(values, position, Math.min(gapStart, position + gapLength), null);
+        } else if (position > gapStart) {
+            int count = position - gapStart;
+            System.arraycopy(keys, gapEnd, keys, gapStart, count);
+            System.arraycopy(values, gapEnd, values, gapStart, count);
+            Arrays.fill(values, Math.max(gapEnd, position), gapEnd + count, null);
+        }
+        gapStart = position;
+        gapEnd = position + gapLength;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Copies the entries to arrays with the given length, widening the gap
+     * @param length new length of the arrays
+     */
+    private void resize(int length) {
+        int[] newKeys = new int[length];
+        Object[] newValues = new Object[length];
+        int tail = keys.length - gapEnd;
+        System.arraycopy(keys, 0, newKeys, 0, gapStart);
+        System.arraycopy(values, 0, newValues, 0, gapStart);
+        System.arraycopy(keys, gapEnd, newKeys, length - tail, tail);
+        System.arraycopy(values, gapEnd, newValues, length - tail, tail);
+        keys = newKeys;
+        values = newValues;
+        gapEnd = length - tail;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the smallest key in the dictionary.
+     * @return the min key
+     * @throws EmptyMapException -> if size = 0
+     */
+    public int minKey() {
+        if (isEmpty())
+            throw new EmptyMapException();
+        return keys[cell(0)];
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the largest key in the dictionary.
+     * @return the max key
+     * @throws EmptyMapException -> if size = 0
+     */
+    public int maxKey() {
+        if (isEmpty())
+            throw new EmptyMapException();
+        return keys[cell(size() - 1)];
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the values in the dictionary, in ascending order of their keys.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    public Iterator<V> values() {
+        return new GapArrayIterator<>(values, gapStart, gapEnd, 0, size());
+    }
+
+    /**
+     * Time complexity: O(log n)
+     * Returns an iterator of the values whose keys are not smaller than the specified key,
+     * in ascending order of their keys.
+     *
+     * @param from smallest key to iterate
+     * @return iterator of the values
+     */
+    public Iterator<V> values(int from) {
+        return new GapArrayIterator<>(values, gapStart, gapEnd, rank(from), size());
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the keys in the dictionary, in ascending order, without boxing them.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    public IntIterator keys() {
+        return new ArrayIntIterator(keys, values, size());
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     * Performs the action on every value, in ascending order of their keys,
+     * walking both sides of the gap directly.
+     *
+     * @param action action to perform on each value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super V> action) {
+        for (int cell = 0; cell < gapStart; cell++)
+            action.accept((V) values[cell]);
+        for (int cell = gapEnd; cell < keys.length; cell++)
+            action.accept((V) values[cell]);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     * Performs the action on every entry, in ascending order of their keys,
+     * walking both sides of the gap directly, with no boxing.
+     *
+     * @param action action to perform on each key and value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachEntry(IntObjectConsumer<? super V> action) {
+        for (int cell = 0; cell < gapStart; cell++)
+            action.accept(keys[cell], (V) values[cell]);
+        for (int cell = gapEnd; cell < keys.length; cell++)
+            action.accept(keys[cell], (V) values[cell]);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        int size = size();
+        oos.writeInt(size);
+        for (int position = 0; position < size; position++) {
+            int cell = cell(position);
+            oos.writeInt(keys[cell]);
+            oos.writeObject(values[cell]);
+        }
+        oos.flush();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        int size = ois.readInt();
+        createMap(Math.max(size, DEFAULT_CAPACITY));
+        // the entries were saved in order, so they go before the gap as they come
+        for (int cell = 0; cell < size; cell++) {
+            keys[cell] = ois.readInt();
+            values[cell] = ois.readObject();
+        }
+        gapStart = size;
+    }
+}
@@ -0,0 +1,43 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Adapts an iterator of this package to java.util.Iterator,
+ * so that the java.util classes can traverse it
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class IteratorAdapter<E> implements java.util.Iterator<E> {
+
+    /**
+     * Adapted iterator
+     */
+    private final Iterator<E> iterator;
+
+    public IteratorAdapter(Iterator<E> iterator) {
+        this.iterator = iterator;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    /**
+     * Time complexity: the one of the adapted iterator
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if there are no more elements
+     */
+    @Override
+    public E next() {
+        return iterator.next();
+    }
+}
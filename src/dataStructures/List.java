@@ -2,6 +2,11 @@ package dataStructures;
 
 import dataStructures.exceptions.*;
 import java.io.Serializable;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * List (sequence) Abstract Data Type
@@ -113,5 +118,51 @@ public interface List<E> extends Serializable {
      */
     E remove( int position );
 
-}   
+    /**
+     * Inserts the elements of the iterator at the last positions in the list, in their order.
+     * @param it iterator of the elements to be inserted
+     */
+    default void addAll( Iterator<? extends E> it ){
+        while (it.hasNext())
+            addLast(it.next());
+    }
+
+    /**
+     * Performs the action on every element of the list (in proper sequence).
+     * Walks the iterator, lists that can walk their storage directly override it.
+     * @param action action to perform on each element
+     */
+    default void forEach( Consumer<? super E> action ){
+        Iterator<E> it = iterator();
+        while (it.hasNext())
+            action.accept(it.next());
+    }
+
+    /**
+     * Returns a spliterator of the elements in the list (in proper sequence).
+     * Splits copy batches of the iteration into arrays,
+     * lists that can split their storage directly override it.
+     * @return spliterator of the elements in the list
+     */
+    default Spliterator<E> spliterator( ){
+        return Spliterators.spliterator(new IteratorAdapter<>(iterator()), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Returns a sequential stream of the elements in the list.
+     * @return stream of the elements in the list
+     */
+    default Stream<E> stream( ){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream of the elements in the list.
+     * The list must not be changed while the stream runs.
+     * @return parallel stream of the elements in the list
+     */
+    default Stream<E> parallelStream( ){
+        return StreamSupport.stream(spliterator(), true);
+    }
 
+}
@@ -5,6 +5,9 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serial;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * List in Array
@@ -14,7 +17,12 @@ import java.io.Serial;
  */
 public class ListInArray<E> implements List<E> {
 
+    // Kept at the value computed for the original class, the saved form did not change
+    @Serial
+    private static final long serialVersionUID = -5217378174889188708L;
+
     private static final int FACTOR = 2;
+    private static final int DEFAULT_CAPACITY = 10;
     /**
      * Array of generic elements E.
      */
@@ -26,6 +34,10 @@ public class ListInArray<E> implements List<E> {
     private transient int counter;
 
 
+    public ListInArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
     /**
      * Construtor with capacity.
      * @param dimension - initial capacity of array.
@@ -68,6 +80,33 @@ public class ListInArray<E> implements List<E> {
         return new ArrayIterator<>(elems,counter);
     }
 
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Performs the action on every element of the list (in proper sequence),
+     * walking the array directly.
+     *
+     * @param action action to perform on each element
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (int i = 0; i < counter; i++)
+            action.accept(elems[i]);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns a spliterator of the elements in the list (in proper sequence),
+     * splitting the array into slices of known size.
+     *
+     * @return spliterator of the elements in the list
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(elems, 0, counter, Spliterator.ORDERED);
+    }
+
     /**
      * Time complexity: O(1) (constant)
      *
@@ -141,12 +180,7 @@ public class ListInArray<E> implements List<E> {
      * @param element to be inserted
      */
     public void addFirst(E element) {
-        if (counter == elems.length)
-            resize();
-        for (int i = counter -1; i >= 0; i--)
-            elems[i] = elems[i+1];
-        elems[0] = element;
-        counter++;
+        addMiddle(0, element);
     }
 
     /**
@@ -160,13 +194,19 @@ public class ListInArray<E> implements List<E> {
      */
     public void addLast(E element) {
         if (counter == elems.length)
-            resize();
+            ensureCapacity(counter + 1);
         elems[counter++] = element;
     }
 
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Shifts the elements from the position one cell to the right and puts the element there.
+     */
     private void addMiddle(int position, E element) {
-        for (int i = counter-1; i >= position; i--)
-            elems[i] = elems[i-1];
+        if (counter == elems.length)
+            ensureCapacity(counter + 1);
+        System.arraycopy(elems, position, elems, position + 1, counter - position);
         elems[position] = element;
         counter++;
     }
@@ -188,15 +228,24 @@ public class ListInArray<E> implements List<E> {
     public void add(int position, E element) {
         if (position<0 || position>counter)
             throw new InvalidPositionException();
-        if (counter == elems.length)
-            resize();
         if (position == counter)
             addLast(element);
-        else if (position == 0)
-            addFirst(element);
-        else {
+        else
             addMiddle(position, element);
-        }
+    }
+
+    /**
+     * Time complexity: O(m) (linear in the number of elements added)
+     *
+     * Inserts the elements of the array at the last positions in the list, in their order,
+     * growing the array at most once and copying them in one block.
+     *
+     * @param array elements to be inserted
+     */
+    public void addAll(E[] array) {
+        ensureCapacity(counter + array.length);
+        System.arraycopy(array, 0, elems, counter, array.length);
+        counter += array.length;
     }
 
     /**
@@ -208,11 +257,9 @@ public class ListInArray<E> implements List<E> {
      * @throws NoSuchElementException - if size() == 0
      */
     public E removeFirst() {
-        E temp = elems[0];
-        for (int i = 0; i < counter - 1; i++)
-            elems[i] = elems[i+1];
-        counter--;
-        return temp;
+        if (isEmpty())
+            throw new NoSuchElementException();
+        return removeMiddle(0);
     }
 
     /**
@@ -224,14 +271,22 @@ public class ListInArray<E> implements List<E> {
      * @throws NoSuchElementException - if size() == 0
      */
     public E removeLast() {
-        return elems[--counter];
+        if (isEmpty())
+            throw new NoSuchElementException();
+        E temp = elems[--counter];
+        elems[counter] = null;
+        return temp;
     }
 
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Shifts the elements after the position one cell to the left, clearing the last cell.
+     */
     private E removeMiddle(int position) {
         E temp = elems[position];
-        for (int i = position; i < counter - 1; i++)
-            elems[i] = elems[i+1];
-        counter--;
+        System.arraycopy(elems, position + 1, elems, position, counter - position - 1);
+        elems[--counter] = null;
         return temp;
     }
 
@@ -250,27 +305,46 @@ public class ListInArray<E> implements List<E> {
      * @throws InvalidPositionException - if position is not valid in the list
      */
     public E remove(int position) {
-        if (position<0 || position>counter)
+        if (position<0 || position>=counter)
             throw new InvalidPositionException();
-        if (counter == 0)
-            return removeFirst();
         if (position == counter - 1)
             return removeLast();
         else
             return removeMiddle(position);
     }
 
+    /**
+     * Time complexity: O(n) (linear) if the array grows, O(1) (constant) otherwise
+     *
+     * Grows the array, if needed, so it holds at least the given number of elements,
+     * doubling its capacity when that is enough.
+     *
+     * @param capacity number of elements the array must hold
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elems.length)
+            resize(Math.max(capacity, elems.length * FACTOR));
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Shrinks the array to the number of elements in the list.
+     */
+    public void trimToSize() {
+        if (counter < elems.length)
+            resize(counter);
+    }
 
     /**
      * Time complexity: O(n) (linear)
      *
-     * Copies the current array to a new with double capacity
+     * Copies the elements to a new array with the given capacity
      */
     @SuppressWarnings("unchecked")
-    private void resize() {
-        E[] newElems = (E[]) new Object[counter*FACTOR];
-        for(int i=0; i<counter; i++)
-            newElems[i] = elems[i];
+    private void resize(int capacity) {
+        E[] newElems = (E[]) new Object[capacity];
+        System.arraycopy(elems, 0, newElems, 0, counter);
         elems = newElems;
     }
 
@@ -293,6 +367,6 @@ public class ListInArray<E> implements List<E> {
         for (int i = 0; i < size; i++){
             @SuppressWarnings("unchecked")
             E element = (E) ois.readObject();
-            addLast(element);}
+            elems[counter++] = element;}
     }
 }
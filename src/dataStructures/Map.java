@@ -1,6 +1,11 @@
 package dataStructures;
 import java.io.Serializable;
 import java.security.Key;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Dictionary Abstract Data Type 
@@ -82,6 +87,46 @@ public interface Map<K,V> extends Serializable {
      */
     Iterator<K> keys( );
 
+    /**
+     * Performs the action on every entry, in the order of the iteration.
+     * Walks the iterator, dictionaries that can walk their storage directly override it.
+     * @param action action to perform on each key and value
+     */
+    default void forEachEntry( BiConsumer<? super K, ? super V> action ){
+        Iterator<Entry<K,V>> it = iterator();
+        while (it.hasNext()) {
+            Entry<K,V> entry = it.next();
+            action.accept(entry.key(), entry.value());
+        }
+    }
+
+    /**
+     * Returns a spliterator of the entries in the dictionary, so streams can traverse them.
+     * Splits copy batches of the iteration into arrays,
+     * dictionaries that can split their storage directly override it.
+     * @return spliterator of the entries in the dictionary
+     */
+    default Spliterator<Entry<K,V>> spliterator( ){
+        return Spliterators.spliterator(new IteratorAdapter<>(iterator()), size(), 0);
+    }
+
+    /**
+     * Returns a sequential stream of the entries in the dictionary.
+     * @return stream of the entries in the dictionary
+     */
+    default Stream<Entry<K,V>> stream( ){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream of the entries in the dictionary.
+     * The dictionary must not be changed while the stream runs.
+     * @return parallel stream of the entries in the dictionary
+     */
+    default Stream<Entry<K,V>> parallelStream( ){
+        return StreamSupport.stream(spliterator(), true);
+    }
+
 } 
 
 
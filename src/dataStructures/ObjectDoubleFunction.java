@@ -0,0 +1,17 @@
+package dataStructures;
+
+/**
+ * Function of an entry with a primitive double value, which is given without boxing
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ */
+public interface ObjectDoubleFunction<K> {
+    /**
+     * Applies the function to the entry
+     * @param key key of the entry
+     * @param value value of the entry
+     * @return result of the function
+     */
+    double apply(K key, double value);
+}
@@ -0,0 +1,419 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Compact Hash Table with primitive double values
+ * Values are stored inline in a double array, so no value is ever boxed.
+ * Entries are kept in dense arrays in insertion order, and a small table of positions
+ * is used to find them by key. Iterations only visit the dense arrays, in insertion order.
+ * Up to SMALL_SIZE entries there is no table of positions and keys are found by scanning
+ * the dense arrays, the table is built when the map grows past that size.
+ * A key without an entry is reported with the noValue given on construction.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ */
+public class ObjectDoubleMap<K> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    //Load factor of the index table
+    static final float IDEAL_LOAD_FACTOR =0.5f;
+    static final int GROWTH_FACTOR =2;
+
+    // Smallest capacity of the dense arrays
+    static final int MIN_CAPACITY = 2;
+
+    // Largest number of positions of the dense arrays searched without an index table
+    static final int SMALL_SIZE = 8;
+
+    static final int NOT_FOUND = -1;
+
+    /**
+     * Value returned for keys without an entry
+     */
+    private final double noValue;
+
+    /**
+     * Keys in insertion order, null if the entry was removed
+     */
+    private transient Object[] keys;
+
+    /**
+     * Values in insertion order
+     */
+    private transient double[] values;
+
+    /**
+     * Hash codes of the keys
+     */
+    private transient int[] hashes;
+
+    /**
+     * Index table, each cell holds the position of an entry in the dense arrays plus one,
+     * or 0 if the cell is empty. Null while the map is small.
+     */
+    private transient int[] index;
+
+    /**
+     * Number of positions of the dense arrays used, including removed entries
+     */
+    private transient int used;
+
+    /**
+     * Number of entries in the table
+     */
+    private transient int currentSize;
+
+    /**
+     * Constructors
+     */
+
+    public ObjectDoubleMap( double noValue ){
+        this(HashTable.DEFAULT_CAPACITY, noValue);
+    }
+
+    public ObjectDoubleMap( int capacity, double noValue ){
+        this.noValue = noValue;
+        createTable(Math.max(capacity, MIN_CAPACITY));
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Allocates empty dense arrays with the given capacity, without index table
+     * @param capacity length of the dense arrays
+     */
+    private void createTable(int capacity) {
+        keys = new Object[capacity];
+        values = new double[capacity];
+        hashes = new int[capacity];
+        index = null;
+        used = 0;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Builds the index table of the entries in the dense arrays
+     */
+    private void buildIndex() {
+        index = new int[HashTable.tableSizeFor((int) (keys.length / IDEAL_LOAD_FACTOR))];
+        for (int pos = 0; pos < used; pos++) {
+            if (keys[pos] != null)
+                insertIndex(pos, hashes[pos]);
+        }
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Points the first empty cell of the probe sequence of the hash code to the position
+     * @param pos position in the dense arrays
+     * @param hashCode spread hash code of the key in that position
+     */
+    private void insertIndex(int pos, int hashCode) {
+        int mask = index.length - 1;
+        int idx = hashCode & mask;
+        while (index[idx] != 0)
+            idx = (idx + 1) & mask;
+        index[idx] = pos + 1;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Clears the cell pointing to the position, shifting back the following cells
+     * of the cluster that can move closer to their home cell.
+     * @param pos position in the dense arrays
+     * @param hashCode spread hash code of the key in that position
+     */
+    private void removeIndex(int pos, int hashCode) {
+        int mask = index.length - 1;
+        int idx = hashCode & mask;
+        while (index[idx] != pos + 1)
+            idx = (idx + 1) & mask;
+        int next = (idx + 1) & mask;
+        while (index[next] != 0) {
+            int home = hashes[index[next] - 1] & mask;
+            // moves the cell if the hole lies between its home cell and its cell
+            if (((next - home) & mask) >= ((next - idx) & mask)) {
+                index[idx] = index[next];
+                idx = next;
+            }
+            next = (next + 1) & mask;
+        }
+        index[idx] = 0;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Scans the dense arrays while the map is small,
+     * otherwise uses Linear Probing over the index table
+     * @param key to search
+     * @param hashCode spread hash code of the key
+     * @return the position of the key in the dense arrays, or NOT_FOUND
+     */
+    private int search(Object key, int hashCode) {
+        if (index == null) {
+            for (int pos = 0; pos < used; pos++) {
+                if (hashes[pos] == hashCode && keys[pos] != null && keys[pos].equals(key))
+                    return pos;
+            }
+            return NOT_FOUND;
+        }
+        int mask = index.length - 1;
+        int idx = hashCode & mask;
+        int pos;
+        while ((pos = index[idx] - 1) >= 0) {
+            if (hashes[pos] == hashCode && keys[pos].equals(key))
+                return pos;
+            idx = (idx + 1) & mask;
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the value reported for keys without an entry.
+     * @return value reported for keys without an entry
+     */
+    public double noValue() {
+        return noValue;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Returns true iff there is an entry in the dictionary whose key is the specified key.
+     * @param key to search
+     * @return true if the dictionary has an entry with that key
+     */
+    public boolean containsKey(K key) {
+        return search(key, HashTable.spread(key.hashCode())) != NOT_FOUND;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns noValue.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or noValue if the dictionary does not have an entry with that key
+     */
+    public double get(K key) {
+        int pos = search(key, HashTable.spread(key.hashCode()));
+        if (pos == NOT_FOUND)
+            return noValue;
+        return values[pos];
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) after every other entry and returns noValue.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or noValue if the dictionary does not have an entry with that key
+     */
+    public double put(K key, double value) {
+        int hashCode = HashTable.spread(key.hashCode());
+        int pos = search(key, hashCode);
+        if (pos != NOT_FOUND) {
+            double oldValue = values[pos];
+            values[pos] = value;
+            return oldValue;
+        }
+        if (used == keys.length)
+            rehash();
+        pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = hashCode;
+        if (index != null)
+            insertIndex(pos, hashCode);
+        else if (used > SMALL_SIZE)
+            buildIndex();
+        currentSize++;
+        return noValue;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Moves the entries to new dense arrays, closing the gaps left by removed entries,
+     * and rebuilds the index table if the map is not small.
+     * The arrays only grow if most positions hold entries.
+     */
+    private void rehash() {
+        Object[] oldKeys = keys;
+        double[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+
+        if (currentSize * GROWTH_FACTOR <= oldKeys.length)
+            createTable(oldKeys.length);
+        else
+            createTable(oldKeys.length * GROWTH_FACTOR);
+
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] != null) {
+                keys[used] = oldKeys[i];
+                values[used] = oldValues[i];
+                hashes[used] = oldHashes[i];
+                used++;
+            }
+        }
+        if (used > SMALL_SIZE)
+            buildIndex();
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns noValue.
+     * The entry leaves a gap in the dense arrays, closed on the next rehash.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or noValue if the dictionary does not an entry with that key
+     */
+    public double remove(K key) {
+        int pos = search(key, HashTable.spread(key.hashCode()));
+        if (pos == NOT_FOUND)
+            return noValue;
+        double oldValue = values[pos];
+        keys[pos] = null;
+        if (index != null)
+            removeIndex(pos, hashes[pos]);
+        currentSize--;
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the keys in the dictionary, in insertion order.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    public Iterator<K> keys() {
+        return new ArrayHashIterator<>(keys, keys, currentSize);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the values in the dictionary, in insertion order, without boxing them.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    public DoubleIterator values() {
+        return new ArrayDoubleIterator(keys, values, currentSize);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     * Performs the action on every entry, in insertion order.
+     * The dense arrays are walked directly, with no iterator and no boxing.
+     *
+     * @param action action to perform on each key and value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachEntry(ObjDoubleConsumer<? super K> action) {
+        for (int pos = 0; pos < used; pos++) {
+            if (keys[pos] != null)
+                action.accept((K) keys[pos], values[pos]);
+        }
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     * Returns the sum of the function over every entry, added in insertion order.
+     * The dense arrays are walked directly, with no iterator and no boxing.
+     *
+     * @param function function of each key and value
+     * @return the sum, 0 if the dictionary is empty
+     */
+    @SuppressWarnings("unchecked")
+    public double sum(ObjectDoubleFunction<? super K> function) {
+        double sum = 0;
+        for (int pos = 0; pos < used; pos++) {
+            if (keys[pos] != null)
+                sum += function.apply((K) keys[pos], values[pos]);
+        }
+        return sum;
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(currentSize);
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                oos.writeObject(keys[i]);
+                oos.writeDouble(values[i]);
+            }
+        }
+        oos.flush();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        int size = ois.readInt();
+        createTable(Math.max(size, MIN_CAPACITY));
+        for (int i = 0; i < size; i++)
+            put((K) ois.readObject(), ois.readDouble());
+    }
+}
@@ -0,0 +1,107 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * In-order Persistent AVL Tree iterator of entries, keys or values
+ * The nodes have no parent links, so the path still to visit is kept in a stack.
+ * Nodes never change, so the iteration is of the version of the tree it was made from,
+ * whatever is later put in or removed from the map.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class PersistentAVLIterator<E> implements Iterator<E> {
+
+    /**
+     * What to return, ENTRIES, KEYS or VALUES
+     */
+    private final int kind;
+
+    /**
+     * True if the iteration is in descending order
+     */
+    private final boolean descending;
+
+    /**
+     * Stack at the start of the iteration, the first element on top
+     */
+    private final PersistentAVLNode<?,?>[] first;
+
+    /**
+     * Number of nodes in the stack at the start of the iteration
+     */
+    private final int firstTop;
+
+    /**
+     * Nodes still to visit whose subtree on the side of the iteration was already visited
+     */
+    private final PersistentAVLNode<?,?>[] stack;
+
+    /**
+     * Number of nodes in the stack
+     */
+    private int top;
+
+    /**
+     * @param kind ENTRIES, KEYS or VALUES
+     * @param first stack with the path to the first element, which is on top
+     * @param firstTop number of nodes in that stack
+     * @param descending true to iterate in descending order
+     */
+    public PersistentAVLIterator(int kind, PersistentAVLNode<?,?>[] first, int firstTop, boolean descending) {
+        this.kind = kind;
+        this.first = first;
+        this.firstTop = firstTop;
+        this.descending = descending;
+        this.stack = new PersistentAVLNode<?,?>[first.length];
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return top > 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        PersistentAVLNode<?,?> node = stack[--top];
+        for (PersistentAVLNode<?,?> child = descending ? node.left : node.right; child != null;
+             child = descending ? child.right : child.left)
+            stack[top++] = child;
+        if (kind == PersistentAVLSortedMap.KEYS)
+            return (E) node.key;
+        if (kind == PersistentAVLSortedMap.VALUES)
+            return (E) node.value;
+        return (E) new Map.Entry(node.key, node.value);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @Override
+    public void rewind() {
+        System.arraycopy(first, 0, stack, 0, firstTop);
+        top = firstTop;
+    }
+}
@@ -0,0 +1,63 @@
+package dataStructures;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Immutable AVL Tree Node
+ * A node never changes once made, so any number of trees may share it.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+final class PersistentAVLNode<K,V> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    final K key;
+
+    final V value;
+
+    final PersistentAVLNode<K,V> left;
+
+    final PersistentAVLNode<K,V> right;
+
+    /**
+     * Height of the node counting its own level, so a leaf has height 1
+     */
+    final int height;
+
+    /**
+     * Number of nodes of the subtree rooted at this node
+     */
+    final int size;
+
+    PersistentAVLNode(K key, V value, PersistentAVLNode<K,V> left, PersistentAVLNode<K,V> right) {
+        this.key = key;
+        this.value = value;
+        this.left = left;
+        this.right = right;
+        this.height = 1 + Math.max(height(left), height(right));
+        this.size = 1 + size(left) + size(right);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return height of the node, 0 if it is null
+     */
+    static int height(PersistentAVLNode<?,?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return number of nodes of the subtree rooted at the node, 0 if it is null
+     */
+    static int size(PersistentAVLNode<?,?> node) {
+        return node == null ? 0 : node.size;
+    }
+}
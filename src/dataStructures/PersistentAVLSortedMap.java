@@ -0,0 +1,497 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyMapException;
+import dataStructures.exceptions.InvalidPositionException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+
+/**
+ * Persistent AVL Tree Sorted Map
+ * Nodes are never changed: an update copies only the nodes on the path from the root to the
+ * changed node, O(log n) of them, and the new path shares every other subtree with the old tree.
+ * So each root is a version of the map that never changes, a snapshot is a copy of the root
+ * reference, and readers iterate their version without locks while the map keeps changing.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class PersistentAVLSortedMap<K extends Comparable<K>,V> implements SortedMap<K,V> {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    // What an iterator returns
+    static final int ENTRIES = 0;
+    static final int KEYS = 1;
+    static final int VALUES = 2;
+
+    /**
+     * Root of the current version, null if the map is empty
+     */
+    private transient volatile PersistentAVLNode<K,V> root;
+
+    /**
+     * Constructors
+     */
+
+    public PersistentAVLSortedMap( ){
+        root = null;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Builds a perfectly balanced tree with the entries, without comparing any keys
+     * @param sorted entries in ascending order of their keys, with no repeated keys
+     * @param size number of entries
+     */
+    public PersistentAVLSortedMap( Iterator<Entry<K,V>> sorted, int size ){
+        root = buildTree(sorted, size);
+    }
+
+    private PersistentAVLSortedMap( PersistentAVLNode<K,V> root ){
+        this.root = root;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns a map with the current version of this map. Both maps may be changed afterwards
+     * without the other seeing it, each change copying O(log n) nodes.
+     * @return the snapshot
+     */
+    public PersistentAVLSortedMap<K,V> snapshot() {
+        return new PersistentAVLSortedMap<>(root);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns a new version of the map with the entry (key, value), leaving this map unchanged.
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return the new version
+     */
+    public PersistentAVLSortedMap<K,V> with(K key, V value) {
+        return new PersistentAVLSortedMap<>(insert(root, key, value, new Object[1]));
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns a new version of the map without the entry with the key, leaving this map unchanged.
+     * @param key whose entry is to be removed
+     * @return the new version, this map if it has no entry with that key
+     */
+    public PersistentAVLSortedMap<K,V> without(K key) {
+        PersistentAVLNode<K,V> current = root;
+        PersistentAVLNode<K,V> newRoot = delete(current, key, new Object[1]);
+        return newRoot == current ? this : new PersistentAVLSortedMap<>(newRoot);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    @Override
+    public int size() {
+        return PersistentAVLNode.size(root);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V get(K key) {
+        PersistentAVLNode<K,V> node = root;
+        while (node != null) {
+            int comp = key.compareTo(node.key);
+            if (comp == 0)
+                return node.value;
+            node = comp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     * The new version is published by replacing the root, so readers see either version whole.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized V put(K key, V value) {
+        Object[] oldValue = new Object[1];
+        root = insert(root, key, value, oldValue);
+        return (V) oldValue[0];
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * The new version is published by replacing the root, so readers see either version whole.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(K key) {
+        Object[] oldValue = new Object[1];
+        root = delete(root, key, oldValue);
+        return (V) oldValue[0];
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @param node root of the subtree
+     * @param oldValue holder for the value the key had
+     * @return root of a copy of the subtree with the entry, sharing the subtrees off the path
+     */
+    private PersistentAVLNode<K,V> insert(PersistentAVLNode<K,V> node, K key, V value, Object[] oldValue) {
+        if (node == null)
+            return new PersistentAVLNode<>(key, value, null, null);
+        int comp = key.compareTo(node.key);
+        if (comp == 0) {
+            oldValue[0] = node.value;
+            return new PersistentAVLNode<>(key, value, node.left, node.right);
+        }
+        if (comp < 0)
+            return balance(node.key, node.value, insert(node.left, key, value, oldValue), node.right);
+        return balance(node.key, node.value, node.left, insert(node.right, key, value, oldValue));
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * A node with both children is replaced by a copy of its successor.
+     * @param node root of the subtree
+     * @param oldValue holder for the value the key had
+     * @return root of a copy of the subtree without the entry, or the same root if it has no such entry
+     */
+    private PersistentAVLNode<K,V> delete(PersistentAVLNode<K,V> node, K key, Object[] oldValue) {
+        if (node == null)
+            return null;
+        int comp = key.compareTo(node.key);
+        if (comp < 0) {
+            PersistentAVLNode<K,V> newLeft = delete(node.left, key, oldValue);
+            return newLeft == node.left ? node : balance(node.key, node.value, newLeft, node.right);
+        }
+        if (comp > 0) {
+            PersistentAVLNode<K,V> newRight = delete(node.right, key, oldValue);
+            return newRight == node.right ? node : balance(node.key, node.value, node.left, newRight);
+        }
+        oldValue[0] = node.value;
+        if (node.left == null)
+            return node.right;
+        if (node.right == null)
+            return node.left;
+        PersistentAVLNode<K,V> successor = node.right;
+        while (successor.left != null)
+            successor = successor.left;
+        return balance(successor.key, successor.value, node.left, deleteMin(node.right));
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * @param node root of a non-empty subtree
+     * @return root of a copy of the subtree without its smallest key
+     */
+    private PersistentAVLNode<K,V> deleteMin(PersistentAVLNode<K,V> node) {
+        if (node.left == null)
+            return node.right;
+        return balance(node.key, node.value, deleteMin(node.left), node.right);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Makes a node with the entry and the subtrees, whose heights differ by at most 2,
+     * rotating new nodes if they differ by 2.
+     * @return root of the balanced subtree
+     */
+    private PersistentAVLNode<K,V> balance(K key, V value, PersistentAVLNode<K,V> left, PersistentAVLNode<K,V> right) {
+        int leftHeight = PersistentAVLNode.height(left);
+        int rightHeight = PersistentAVLNode.height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (PersistentAVLNode.height(left.left) >= PersistentAVLNode.height(left.right))
+                return new PersistentAVLNode<>(left.key, left.value, left.left,
+                        new PersistentAVLNode<>(key, value, left.right, right));
+            PersistentAVLNode<K,V> middle = left.right;
+            return new PersistentAVLNode<>(middle.key, middle.value,
+                    new PersistentAVLNode<>(left.key, left.value, left.left, middle.left),
+                    new PersistentAVLNode<>(key, value, middle.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (PersistentAVLNode.height(right.right) >= PersistentAVLNode.height(right.left))
+                return new PersistentAVLNode<>(right.key, right.value,
+                        new PersistentAVLNode<>(key, value, left, right.left), right.right);
+            PersistentAVLNode<K,V> middle = right.left;
+            return new PersistentAVLNode<>(middle.key, middle.value,
+                    new PersistentAVLNode<>(key, value, left, middle.left),
+                    new PersistentAVLNode<>(right.key, right.value, middle.right, right.right));
+        }
+        return new PersistentAVLNode<>(key, value, left, right);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * @param sorted entries in ascending order of their keys
+     * @param size number of entries of the subtree
+     * @return root of a perfectly balanced subtree with the next entries
+     */
+    private PersistentAVLNode<K,V> buildTree(Iterator<Entry<K,V>> sorted, int size) {
+        if (size == 0)
+            return null;
+        int leftSize = (size - 1) / 2;
+        PersistentAVLNode<K,V> left = buildTree(sorted, leftSize);
+        Entry<K,V> entry = sorted.next();
+        PersistentAVLNode<K,V> right = buildTree(sorted, size - 1 - leftSize);
+        return new PersistentAVLNode<>(entry.key(), entry.value(), left, right);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry with the smallest key in the dictionary.
+     * @return the min entry
+     * @throws EmptyMapException -> if size = 0
+     */
+    @Override
+    public Entry<K, V> minEntry() {
+        PersistentAVLNode<K,V> node = root;
+        if (node == null)
+            throw new EmptyMapException();
+        while (node.left != null)
+            node = node.left;
+        return new Entry<>(node.key, node.value);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry with the largest key in the dictionary.
+     * @return the max entry
+     * @throws EmptyMapException -> if size = 0
+     */
+    @Override
+    public Entry<K, V> maxEntry() {
+        PersistentAVLNode<K,V> node = root;
+        if (node == null)
+            throw new EmptyMapException();
+        while (node.right != null)
+            node = node.right;
+        return new Entry<>(node.key, node.value);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the number of keys in the dictionary smaller than the specified key.
+     * @param key key
+     * @return number of smaller keys
+     */
+    @Override
+    public int rank(K key) {
+        int rank = 0;
+        PersistentAVLNode<K,V> node = root;
+        while (node != null) {
+            int comp = key.compareTo(node.key);
+            if (comp <= 0) {
+                if (comp == 0)
+                    return rank + PersistentAVLNode.size(node.left);
+                node = node.left;
+            } else {
+                rank += PersistentAVLNode.size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry in the specified position of the iteration, starting at 0.
+     * @param position position of the entry
+     * @return the entry in that position
+     * @throws InvalidPositionException - if the position is not between 0 and size - 1
+     */
+    @Override
+    public Entry<K, V> select(int position) {
+        PersistentAVLNode<K,V> node = root;
+        if (position < 0 || position >= PersistentAVLNode.size(node))
+            throw new InvalidPositionException();
+        while (position != PersistentAVLNode.size(node.left)) {
+            if (position < PersistentAVLNode.size(node.left))
+                node = node.left;
+            else {
+                position -= PersistentAVLNode.size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return new Entry<>(node.key, node.value);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Makes an iterator of the current version, pushing the path to its first element.
+     * @param kind ENTRIES, KEYS or VALUES
+     * @param from key to start at, null to start at the first or last key
+     * @param descending true to iterate in descending order
+     * @return the iterator
+     */
+    private <E> Iterator<E> iterator(int kind, K from, boolean descending) {
+        PersistentAVLNode<K,V> node = root;
+        PersistentAVLNode<?,?>[] stack = new PersistentAVLNode<?,?>[PersistentAVLNode.height(node)];
+        int top = 0;
+        while (node != null) {
+            int comp = from == null ? (descending ? 1 : -1) : from.compareTo(node.key);
+            if (comp == 0) {
+                stack[top++] = node;
+                break;
+            }
+            if (comp < 0 != descending)
+                stack[top++] = node;
+            node = comp < 0 ? node.left : node.right;
+        }
+        return new PersistentAVLIterator<>(kind, stack, top, descending);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries in the dictionary.
+     * It iterates the version of the map at the time it is made.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return iterator(ENTRIES, null, false);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries whose keys are not smaller than the specified key,
+     * in ascending order.
+     * @param from smallest key to iterate
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> tailIterator(K from) {
+        return iterator(ENTRIES, from, false);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries in the dictionary, in descending order.
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator() {
+        return iterator(ENTRIES, null, true);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries whose keys are not larger than the specified key,
+     * in descending order.
+     * @param from largest key to iterate
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator(K from) {
+        return iterator(ENTRIES, from, true);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    public Iterator<V> values() {
+        return iterator(VALUES, null, false);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    public Iterator<K> keys() {
+        return iterator(KEYS, null, false);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        PersistentAVLSortedMap<K,V> snapshot = snapshot();
+        oos.writeInt(snapshot.size());
+        Iterator<Entry<K,V>> it = snapshot.iterator();
+        while (it.hasNext()) {
+            Entry<K,V> entry = it.next();
+            oos.writeObject(entry.key());
+            oos.writeObject(entry.value());
+        }
+        oos.flush();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        int size = ois.readInt();
+        Entry<K,V>[] entries = new Entry[size];
+        for (int i = 0; i < size; i++)
+            entries[i] = new Entry<>((K) ois.readObject(), (V) ois.readObject());
+        // the entries were saved in order, so the tree is rebuilt balanced in linear time
+        root = buildTree(new ArrayIterator<>(entries, size), size);
+    }
+}
@@ -0,0 +1,301 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+import java.util.function.Function;
+
+/**
+ * Lazy Pipeline of operations on an iteration
+ * The operations are kept in arrays and applied to each element of the source in turn,
+ * all in a single pass and a single iterator, so no intermediate iterator or collection is made.
+ * Nothing is taken from the source until an element is asked for, and the source is no longer
+ * visited once a limit is reached or a takeWhile condition fails.
+ * Adding an operation makes a new pipeline and leaves the old one unchanged, so pipelines
+ * can be reused and branched. Every pipeline iterates the source from its start, and pipelines
+ * made from the same source share it, so only one of them should be iterated at a time.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element, the type of the elements after the last operation
+ */
+public class Pipeline<E> implements Iterator<E> {
+
+    // Kinds of operation
+    private static final int FILTER = 0;
+    private static final int MAP = 1;
+    private static final int SKIP = 2;
+    private static final int LIMIT = 3;
+    private static final int TAKE_WHILE = 4;
+
+    /**
+     * Iterator of the elements before the first operation
+     */
+    private final Iterator<?> source;
+
+    /**
+     * Kind of each operation
+     */
+    private final int[] kinds;
+
+    /**
+     * Predicate or function of each operation, null for skip and limit
+     */
+    private final Object[] operations;
+
+    /**
+     * Number of elements of each skip or limit
+     */
+    private final long[] counts;
+
+    /**
+     * Number of elements each skip still drops or each limit still lets through
+     */
+    private final long[] remaining;
+
+    /**
+     * True once the source was rewound for this iteration
+     */
+    private boolean started;
+
+    /**
+     * True once no more elements can come out of the pipeline
+     */
+    private boolean done;
+
+    /**
+     * True if the next element was already searched for
+     */
+    private boolean ready;
+
+    /**
+     * True if the search found a next element
+     */
+    private boolean found;
+
+    /**
+     * Next element in the iteration
+     */
+    private Object nextToReturn;
+
+    /**
+     * @param source iterator of the elements before the first operation
+     * @param kinds kind of each operation
+     * @param operations predicate or function of each operation
+     * @param counts number of elements of each skip or limit
+     */
+    private Pipeline(Iterator<?> source, int[] kinds, Object[] operations, long[] counts) {
+        this.source = source;
+        this.kinds = kinds;
+        this.operations = operations;
+        this.counts = counts;
+        this.remaining = new long[kinds.length];
+        rewindState();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Starts a pipeline with no operations on the iteration
+     * @param source iterator of the elements
+     * @return the pipeline
+     */
+    public static <E> Pipeline<E> of(Iterator<E> source) {
+        return new Pipeline<>(source, new int[0], new Object[0], new long[0]);
+    }
+
+    /**
+     * Time complexity: O(s) (linear), s being the number of operations, which is small
+     *
+     * Makes a new pipeline with the operations of this one and another one at the end.
+     * This pipeline is left unchanged, so it can still be used or extended in other ways.
+     */
+    private <R> Pipeline<R> withStage(int kind, Object operation, long count) {
+        int stages = kinds.length;
+        int[] newKinds = new int[stages + 1];
+        Object[] newOperations = new Object[stages + 1];
+        long[] newCounts = new long[stages + 1];
+        System.arraycopy(kinds, 0, newKinds, 0, stages);
+        System.arraycopy(operations, 0, newOperations, 0, stages);
+        System.arraycopy(counts, 0, newCounts, 0, stages);
+        newKinds[stages] = kind;
+        newOperations[stages] = operation;
+        newCounts[stages] = count;
+        return new Pipeline<>(source, newKinds, newOperations, newCounts);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Keeps only the elements that check the predicate.
+     * @param predicate condition of the elements to keep
+     * @return a new pipeline
+     */
+    public Pipeline<E> filter(Predicate<? super E> predicate) {
+        return withStage(FILTER, predicate, 0);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Replaces each element by the result of the function.
+     * @param function function applied to each element
+     * @return a new pipeline of the results of the function
+     */
+    public <R> Pipeline<R> map(Function<? super E, ? extends R> function) {
+        return withStage(MAP, function, 0);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Drops the first elements.
+     * @param count number of elements to drop
+     * @return a new pipeline
+     */
+    public Pipeline<E> skip(long count) {
+        return withStage(SKIP, null, count);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Keeps only the first elements, the source is not visited after the last one.
+     * @param count number of elements to keep
+     * @return a new pipeline
+     */
+    public Pipeline<E> limit(long count) {
+        return withStage(LIMIT, null, count);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Keeps the elements up to the first one that does not check the predicate,
+     * the source is not visited after it.
+     * @param predicate condition of the elements to keep
+     * @return a new pipeline
+     */
+    public Pipeline<E> takeWhile(Predicate<? super E> predicate) {
+        return withStage(TAKE_WHILE, predicate, 0);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Resets the counters of the skips and limits and forgets the next element.
+     */
+    private void rewindState() {
+        started = false;
+        done = false;
+        ready = false;
+        found = false;
+        nextToReturn = null;
+        for (int i = 0; i < kinds.length; i++) {
+            remaining[i] = counts[i];
+            if (kinds[i] == LIMIT && counts[i] <= 0)
+                done = true;
+        }
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Takes elements from the source, passing each one through every operation in order,
+     * until one comes out of the last operation or no more can.
+     */
+    @SuppressWarnings({"unchecked","rawtypes"})
+    private void advance() {
+        ready = true;
+        found = false;
+        nextToReturn = null;
+        if (!started) {
+            source.rewind();
+            started = true;
+        }
+        source:
+        while (!done && source.hasNext()) {
+            Object element = source.next();
+            for (int i = 0; i < kinds.length; i++) {
+                switch (kinds[i]) {
+                    case FILTER -> {
+                        if (!((Predicate) operations[i]).check(element))
+                            continue source;
+                    }
+                    case MAP -> element = ((Function) operations[i]).apply(element);
+                    case SKIP -> {
+                        if (remaining[i] > 0) {
+                            remaining[i]--;
+                            continue source;
+                        }
+                    }
+                    case LIMIT -> {
+                        if (remaining[i] <= 0) {
+                            done = true;
+                            break source;
+                        }
+                        // the element goes on, even if a later operation drops it no other gets past this limit
+                        if (--remaining[i] == 0)
+                            done = true;
+                    }
+                    case TAKE_WHILE -> {
+                        if (!((Predicate) operations[i]).check(element)) {
+                            done = true;
+                            break source;
+                        }
+                    }
+                }
+            }
+            nextToReturn = element;
+            found = true;
+            return;
+        }
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        if (!ready)
+            advance();
+        return found;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        ready = false;
+        return (E) nextToReturn;
+    }
+
+    /**
+     * Time complexity: O(s) (linear), s being the number of operations
+     *
+     * Restarts the iteration, the source is rewound when the next element is searched for.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @Override
+    public void rewind() {
+        rewindState();
+    }
+}
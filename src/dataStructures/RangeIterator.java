@@ -0,0 +1,133 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Iterator of the entries of a sorted iteration whose keys are in a range
+ * The entries before the range at the start of the iteration are skipped,
+ * and the iteration ends at the first entry past the range.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class RangeIterator<K extends Comparable<K>,V> implements Iterator<Map.Entry<K,V>> {
+
+    /**
+     * Sorted iteration, positioned near the start of the range
+     */
+    private final Iterator<Map.Entry<K,V>> iterator;
+
+    /**
+     * Smallest key of the range
+     */
+    private final K from;
+
+    /**
+     * Key after the range, not included
+     */
+    private final K to;
+
+    /**
+     * True if the iteration is in descending order
+     */
+    private final boolean descending;
+
+    /**
+     * Next entry to return, null if there is none
+     */
+    private Map.Entry<K,V> nextToReturn;
+
+    /**
+     * @param iterator sorted iteration, with no entries inside the range before its start
+     * @param from smallest key of the range
+     * @param to key after the range, not included
+     * @param descending true if the iteration is in descending order
+     */
+    public RangeIterator(Iterator<Map.Entry<K,V>> iterator, K from, K to, boolean descending) {
+        this.iterator = iterator;
+        this.from = from;
+        this.to = to;
+        this.descending = descending;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return nextToReturn != null;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    public Map.Entry<K,V> next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        Map.Entry<K,V> entry = nextToReturn;
+        nextToReturn = iterator.hasNext() ? inRange(iterator.next()) : null;
+        return entry;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @Override
+    public void rewind() {
+        iterator.rewind();
+        nextToReturn = null;
+        while (iterator.hasNext()) {
+            Map.Entry<K,V> entry = iterator.next();
+            if (!beforeRange(entry.key())) {
+                nextToReturn = inRange(entry);
+                return;
+            }
+            // with an empty range a key may be both before and after it
+            if (afterRange(entry.key()))
+                return;
+        }
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return true if the key comes before the range in the order of the iteration
+     */
+    private boolean beforeRange(K key) {
+        return descending ? key.compareTo(to) >= 0 : key.compareTo(from) < 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return true if the key comes after the range in the order of the iteration
+     */
+    private boolean afterRange(K key) {
+        return descending ? key.compareTo(from) < 0 : key.compareTo(to) >= 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return the entry if its key is not after the range, null otherwise
+     */
+    private Map.Entry<K,V> inRange(Map.Entry<K,V> entry) {
+        return afterRange(entry.key()) ? null : entry;
+    }
+}
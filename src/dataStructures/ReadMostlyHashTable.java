@@ -0,0 +1,304 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Read Mostly Hash Table
+ * Closed Hash Table for maps that are read far more often than they are updated.
+ * Lookups never take a lock: they read the current table and its cells with volatile reads,
+ * and every cell holds an immutable entry. Writers are serialized, publish each new or replaced
+ * entry with a single volatile write to its cell, and publish a whole new table when it grows,
+ * so a reader either sees an entry completely or not at all.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class ReadMostlyHashTable<K,V> implements Map<K,V> {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    //Load factors
+    static final float IDEAL_LOAD_FACTOR =0.5f;
+    static final float MAX_LOAD_FACTOR =0.8f;
+    static final int GROWTH_FACTOR =2;
+
+    /**
+     * Cells of the table, null if empty or ClosedHashTable.REMOVED_CELL if the entry was removed.
+     * Once a new table is published the old one is never written again.
+     */
+    private transient volatile AtomicReferenceArray<Entry<K,V>> table;
+
+    /**
+     * Number of entries in the table
+     */
+    private transient volatile int currentSize;
+
+    /**
+     * Number of cells holding REMOVED_CELL, only used by writers
+     */
+    private transient int removedCells;
+
+    /**
+     * Number of used cells to reach MAX_LOAD_FACTOR, only used by writers
+     */
+    private transient int maxSize;
+
+    /**
+     * Constructors
+     */
+
+    public ReadMostlyHashTable( ){
+        this(HashTable.DEFAULT_CAPACITY);
+    }
+
+    public ReadMostlyHashTable( int capacity ){
+        table = createTable(HashTable.tableSizeFor((int) (capacity / IDEAL_LOAD_FACTOR)));
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Allocates an empty table with the given length, not yet published
+     * @param arraySize length of the table
+     * @return the new table
+     */
+    private AtomicReferenceArray<Entry<K,V>> createTable(int arraySize) {
+        removedCells = 0;
+        maxSize = (int)(arraySize * MAX_LOAD_FACTOR);
+        return new AtomicReferenceArray<>(arraySize);
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Linear Probing over the given table
+     * @param table to search
+     * @param key to search
+     * @return the index of the specified key, or -(first removed or empty cell of the probe sequence + 1)
+     */
+    private int search(AtomicReferenceArray<Entry<K,V>> table, K key) {
+        int mask = table.length() - 1;
+        int idx = HashTable.spread(key.hashCode()) & mask;
+        int insertionPoint = -1;
+        Entry<K,V> entry;
+        while ((entry = table.get(idx)) != null) {
+            if (entry == ClosedHashTable.REMOVED_CELL) {
+                if (insertionPoint < 0)
+                    insertionPoint = idx;
+            }
+            else if (entry.key().equals(key))
+                return idx;
+            idx = (idx + 1) & mask;
+        }
+        return -((insertionPoint < 0 ? idx : insertionPoint) + 1);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    @Override
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     * Never takes a lock.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V get(K key) {
+        AtomicReferenceArray<Entry<K,V>> current = table;
+        int idx = search(current, key);
+        if (idx < 0)
+            return null;
+        return current.get(idx).value();
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public synchronized V put(K key, V value) {
+        AtomicReferenceArray<Entry<K,V>> current = table;
+        int idx = search(current, key);
+        if (idx >= 0)
+            return current.getAndSet(idx, new Entry<>(key, value)).value();
+        idx = -(idx + 1);
+        if (current.get(idx) == ClosedHashTable.REMOVED_CELL)
+            removedCells--;
+        else if (currentSize + removedCells >= maxSize) {
+            current = rehash(current);
+            idx = -(search(current, key) + 1);
+        }
+        current.set(idx, new Entry<>(key, value));
+        currentSize++;
+        return null;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Copies every entry to a new table, dropping the removed cells, and publishes it.
+     * The table only grows if the removed cells are not the main reason it got full.
+     * @param oldTable table being replaced
+     * @return the published table
+     */
+    private AtomicReferenceArray<Entry<K,V>> rehash(AtomicReferenceArray<Entry<K,V>> oldTable) {
+        AtomicReferenceArray<Entry<K,V>> newTable;
+        if (removedCells > currentSize)
+            newTable = createTable(oldTable.length());
+        else
+            newTable = createTable(HashTable.tableSizeFor(oldTable.length() * GROWTH_FACTOR));
+        for (int i = 0; i < oldTable.length(); i++) {
+            Entry<K,V> entry = oldTable.get(i);
+            if (entry != null && entry != ClosedHashTable.REMOVED_CELL)
+                newTable.set(-(search(newTable, entry.key()) + 1), entry);
+        }
+        table = newTable;
+        return newTable;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * The cell is left as a removed cell, so lookups running through it are not cut short.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(K key) {
+        AtomicReferenceArray<Entry<K,V>> current = table;
+        int idx = search(current, key);
+        if (idx < 0)
+            return null;
+        V oldValue = current.getAndSet(idx, (Entry<K,V>) ClosedHashTable.REMOVED_CELL).value();
+        removedCells++;
+        currentSize--;
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Returns an iterator of the entries in the dictionary.
+     * The entries are copied from the current table without taking a lock, so the iteration
+     * never fails because of concurrent updates, but may miss the ones made while copying.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        AtomicReferenceArray<Entry<K,V>> current = table;
+        List<Entry<K,V>> snapshot = new ListInArray<>(Math.max(currentSize, 1));
+        for (int i = 0; i < current.length(); i++) {
+            Entry<K,V> entry = current.get(i);
+            if (entry != null && entry != ClosedHashTable.REMOVED_CELL)
+                snapshot.addLast(entry);
+        }
+        return snapshot.iterator();
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public Iterator<V> values() {
+        return new ValuesIterator(iterator());
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public Iterator<K> keys() {
+        return new KeysIterator(iterator());
+    }
+
+    @Serial
+    private synchronized void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        AtomicReferenceArray<Entry<K,V>> current = table;
+        oos.writeInt(current.length());
+        oos.writeInt(currentSize);
+        for (int i = 0; i < current.length(); i++) {
+            Entry<K,V> entry = current.get(i);
+            if (entry != null && entry != ClosedHashTable.REMOVED_CELL) {
+                oos.writeObject(entry.key());
+                oos.writeObject(entry.value());
+            }
+        }
+        oos.flush();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        AtomicReferenceArray<Entry<K,V>> newTable = createTable(HashTable.tableSizeFor(ois.readInt()));
+        int size = ois.readInt();
+        for (int i = 0; i < size; i++) {
+            K key = (K) ois.readObject();
+            newTable.set(-(search(newTable, key) + 1), new Entry<>(key, (V) ois.readObject()));
+        }
+        currentSize = size;
+        table = newTable;
+    }
+}
@@ -0,0 +1,262 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Compressed set of int values, in the style of Roaring Bitmaps
+ * Values are split by their high 16 bits into containers, kept in a sorted array of keys,
+ * and each container holds the low 16 bits as a sorted array or as a bitmap, whichever is smaller.
+ * Dense values, like ordinals, take about one bit each and intersections work a word at a time.
+ * Values are kept and iterated as unsigned ints.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ */
+public class RoaringBitmap implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final int GROWTH_FACTOR = 2;
+
+    /**
+     * High 16 bits of the values of each container, in ascending order
+     */
+    private transient char[] keys;
+
+    /**
+     * Container of each key
+     */
+    private transient RoaringContainer[] containers;
+
+    /**
+     * Number of containers
+     */
+    private transient int size;
+
+    /**
+     * Number of values
+     */
+    private transient int cardinality;
+
+    public RoaringBitmap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    private RoaringBitmap(int capacity) {
+        keys = new char[capacity];
+        containers = new RoaringContainer[capacity];
+        size = 0;
+        cardinality = 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return number of values in the bitmap
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return true if the bitmap has no values
+     */
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Time complexity: O(log n) (logarithmic)
+     *
+     * Binary search of a key.
+     * @return position of the key, or -(insertion point) - 1 if it is not there
+     */
+    private int search(char key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key)
+                low = mid + 1;
+            else if (keys[mid] > key)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Time complexity: O(log n) (logarithmic)
+     *
+     * @param value the value
+     * @return true if the bitmap has the value
+     */
+    public boolean contains(int value) {
+        int position = search((char) (value >>> 16));
+        return position >= 0 && containers[position].contains((char) value);
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(log n) (logarithmic), when the value goes after the ones in its container
+     * Worst scenario: O(n) (linear), when a container shifts
+     *
+     * Adds a value to the bitmap.
+     * @param value the value
+     * @return true if the value was not in the bitmap
+     */
+    public boolean add(int value) {
+        char key = (char) (value >>> 16);
+        int position = search(key);
+        if (position < 0) {
+            position = -position - 1;
+            insertContainer(position, key, new RoaringContainer());
+        }
+        if (!containers[position].add((char) value))
+            return false;
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(log n) (logarithmic)
+     * Worst scenario: O(n) (linear), when a container shifts
+     *
+     * Removes a value from the bitmap.
+     * @param value the value
+     * @return true if the value was in the bitmap
+     */
+    public boolean remove(int value) {
+        int position = search((char) (value >>> 16));
+        if (position < 0 || !containers[position].remove((char) value))
+            return false;
+        cardinality--;
+        if (containers[position].cardinality() == 0) {
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(containers, position + 1, containers, position, size - position - 1);
+            containers[--size] = null;
+        }
+        return true;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized when adding at the end, O(n) (linear) otherwise
+     *
+     * Inserts a container, keeping the keys sorted.
+     */
+    private void insertContainer(int position, char key, RoaringContainer container) {
+        if (size == keys.length) {
+            char[] newKeys = new char[Math.max(size * GROWTH_FACTOR, DEFAULT_CAPACITY)];
+            RoaringContainer[] newContainers = new RoaringContainer[newKeys.length];
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            System.arraycopy(containers, 0, newContainers, 0, size);
+            keys = newKeys;
+            containers = newContainers;
+        }
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(containers, position, containers, position + 1, size - position);
+        keys[position] = key;
+        containers[position] = container;
+        size++;
+    }
+
+    /**
+     * Time complexity: O(n + m) (linear), containers are matched by key and intersected a word at a time
+     *
+     * @param first a bitmap
+     * @param second another bitmap
+     * @return a new bitmap with the values in both bitmaps
+     */
+    public static RoaringBitmap and(RoaringBitmap first, RoaringBitmap second) {
+        RoaringBitmap result = new RoaringBitmap(Math.max(Math.min(first.size, second.size), DEFAULT_CAPACITY));
+        int i = 0;
+        int j = 0;
+        while (i < first.size && j < second.size) {
+            if (first.keys[i] < second.keys[j])
+                i++;
+            else if (first.keys[i] > second.keys[j])
+                j++;
+            else {
+                result.append(first.keys[i], first.containers[i].and(second.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Time complexity: O(n + m) (linear), containers are matched by key and compared a word at a time
+     *
+     * @param first a bitmap
+     * @param second another bitmap
+     * @return a new bitmap with the values in the first bitmap but not in the second
+     */
+    public static RoaringBitmap andNot(RoaringBitmap first, RoaringBitmap second) {
+        RoaringBitmap result = new RoaringBitmap(Math.max(first.size, DEFAULT_CAPACITY));
+        int j = 0;
+        for (int i = 0; i < first.size; i++) {
+            while (j < second.size && second.keys[j] < first.keys[i])
+                j++;
+            if (j < second.size && second.keys[j] == first.keys[i])
+                result.append(first.keys[i], first.containers[i].andNot(second.containers[j]));
+            else
+                result.append(first.keys[i], first.containers[i].andNot(new RoaringContainer()));
+        }
+        return result;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     *
+     * Adds a container after the others, unless it is null.
+     */
+    private void append(char key, RoaringContainer container) {
+        if (container == null)
+            return;
+        insertContainer(size, key, container);
+        cardinality += container.cardinality();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns an iterator of the values in ascending order.
+     * @return iterator of the values
+     */
+    public IntIterator iterator() {
+        return new RoaringIterator(keys, containers, size);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(cardinality);
+        IntIterator it = iterator();
+        while (it.hasNext())
+            oos.writeInt(it.nextInt());
+        oos.flush();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        int count = ois.readInt();
+        keys = new char[DEFAULT_CAPACITY];
+        containers = new RoaringContainer[DEFAULT_CAPACITY];
+        size = 0;
+        cardinality = 0;
+        // the values were saved in order, so each one goes after the others
+        for (int i = 0; i < count; i++)
+            add(ois.readInt());
+    }
+}
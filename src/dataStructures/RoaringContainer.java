@@ -0,0 +1,309 @@
+package dataStructures;
+
+/**
+ * Container of the low 16 bits of the values of a Roaring Bitmap that share the same high 16 bits
+ * While it holds few values they are kept in a sorted char array, and once it holds more than
+ * ARRAY_MAX they are kept as a bitmap of 65536 bits, whichever takes less memory.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ */
+class RoaringContainer {
+
+    /**
+     * Largest number of values kept in the sorted array, 4096 chars take as much as the bitmap
+     */
+    static final int ARRAY_MAX = 4096;
+
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int WORDS = 1 << 10;
+
+    /**
+     * Values in ascending order, null while the container is a bitmap
+     */
+    private char[] values;
+
+    /**
+     * Bitmap of the values, null while the container is an array
+     */
+    private long[] bits;
+
+    /**
+     * Number of values in the container
+     */
+    private int cardinality;
+
+    public RoaringContainer() {
+        this.values = new char[DEFAULT_CAPACITY];
+        this.bits = null;
+        this.cardinality = 0;
+    }
+
+    private RoaringContainer(char[] values, long[] bits, int cardinality) {
+        this.values = values;
+        this.bits = bits;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return number of values in the container
+     */
+    int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return true if the container is a bitmap
+     */
+    private boolean isBitmap() {
+        return bits != null;
+    }
+
+    /**
+     * Time complexity: O(log n) as an array, O(1) (constant) as a bitmap
+     *
+     * @param value low 16 bits of the value
+     * @return true if the container has the value
+     */
+    boolean contains(char value) {
+        if (isBitmap())
+            return (bits[value >>> 6] & (1L << value)) != 0;
+        return search(value) >= 0;
+    }
+
+    /**
+     * Time complexity: O(log n) (logarithmic)
+     *
+     * Binary search of a value in the array.
+     * @return position of the value, or -(insertion point) - 1 if it is not there
+     */
+    private int search(char value) {
+        int low = 0;
+        int high = cardinality - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value)
+                low = mid + 1;
+            else if (values[mid] > value)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant) as a bitmap or when adding the largest value
+     * Worst scenario: O(n) (linear) when the array shifts or turns into a bitmap
+     *
+     * @param value low 16 bits of the value
+     * @return true if the value was not in the container
+     */
+    boolean add(char value) {
+        if (isBitmap()) {
+            long word = bits[value >>> 6];
+            long updated = word | (1L << value);
+            bits[value >>> 6] = updated;
+            if (word == updated)
+                return false;
+            cardinality++;
+            return true;
+        }
+        int position = search(value);
+        if (position >= 0)
+            return false;
+        if (cardinality == ARRAY_MAX) {
+            toBitmap();
+            return add(value);
+        }
+        position = -position - 1;
+        if (cardinality == values.length) {
+            char[] newValues = new char[Math.min(values.length * GROWTH_FACTOR, ARRAY_MAX)];
+            System.arraycopy(values, 0, newValues, 0, cardinality);
+            values = newValues;
+        }
+        System.arraycopy(values, position, values, position + 1, cardinality - position);
+        values[position] = value;
+        cardinality++;
+        return true;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant) as a bitmap or when removing the largest value
+     * Worst scenario: O(n) (linear) when the array shifts or the bitmap turns into an array
+     *
+     * @param value low 16 bits of the value
+     * @return true if the value was in the container
+     */
+    boolean remove(char value) {
+        if (isBitmap()) {
+            long word = bits[value >>> 6];
+            long updated = word & ~(1L << value);
+            bits[value >>> 6] = updated;
+            if (word == updated)
+                return false;
+            if (--cardinality == ARRAY_MAX)
+                toArray();
+            return true;
+        }
+        int position = search(value);
+        if (position < 0)
+            return false;
+        System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+        cardinality--;
+        return true;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Turns the full array into a bitmap.
+     */
+    private void toBitmap() {
+        bits = new long[WORDS];
+        for (int i = 0; i < cardinality; i++)
+            bits[values[i] >>> 6] |= 1L << values[i];
+        values = null;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Turns the bitmap into an array.
+     */
+    private void toArray() {
+        values = bitsToArray(bits, cardinality);
+        bits = null;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * @return the values of the bitmap in ascending order
+     */
+    private static char[] bitsToArray(long[] bits, int cardinality) {
+        char[] values = new char[Math.max(cardinality, DEFAULT_CAPACITY)];
+        int position = 0;
+        for (int word = 0; word < WORDS; word++) {
+            long w = bits[word];
+            while (w != 0) {
+                values[position++] = (char) ((word << 6) + Long.numberOfTrailingZeros(w));
+                w &= w - 1;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Time complexity: O(n) (linear), the bitmaps are compared a word at a time
+     *
+     * @param other the other container
+     * @return a container of the values in both containers, null if there are none
+     */
+    RoaringContainer and(RoaringContainer other) {
+        if (isBitmap() && other.isBitmap()) {
+            long[] result = new long[WORDS];
+            int count = 0;
+            for (int word = 0; word < WORDS; word++) {
+                result[word] = bits[word] & other.bits[word];
+                count += Long.bitCount(result[word]);
+            }
+            return fromBits(result, count);
+        }
+        if (isBitmap())
+            return other.and(this);
+        return filter(other, true);
+    }
+
+    /**
+     * Time complexity: O(n) (linear), the bitmaps are compared a word at a time
+     *
+     * @param other the other container
+     * @return a container of the values in this container but not in the other, null if there are none
+     */
+    RoaringContainer andNot(RoaringContainer other) {
+        if (!isBitmap())
+            return filter(other, false);
+        long[] result = bits.clone();
+        if (other.isBitmap())
+            for (int word = 0; word < WORDS; word++)
+                result[word] &= ~other.bits[word];
+        else
+            for (int i = 0; i < other.cardinality; i++)
+                result[other.values[i] >>> 6] &= ~(1L << other.values[i]);
+        int count = 0;
+        for (long word : result)
+            count += Long.bitCount(word);
+        return fromBits(result, count);
+    }
+
+    /**
+     * Time complexity: O(n log m) if the other container is an array, O(n) (linear) otherwise
+     *
+     * @param other the other container
+     * @param keep true to keep the values in the other container, false to keep the others
+     * @return a container of the values of this array that were kept, null if there are none
+     */
+    private RoaringContainer filter(RoaringContainer other, boolean keep) {
+        char[] result = new char[Math.max(cardinality, DEFAULT_CAPACITY)];
+        int count = 0;
+        for (int i = 0; i < cardinality; i++)
+            if (other.contains(values[i]) == keep)
+                result[count++] = values[i];
+        return count == 0 ? null : new RoaringContainer(result, null, count);
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * @return a container of the bitmap, as an array if it is small enough, null if it is empty
+     */
+    private static RoaringContainer fromBits(long[] bits, int cardinality) {
+        if (cardinality == 0)
+            return null;
+        if (cardinality <= ARRAY_MAX)
+            return new RoaringContainer(bitsToArray(bits, cardinality), null, cardinality);
+        return new RoaringContainer(null, bits, cardinality);
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear) as a bitmap with a long run of empty words
+     *
+     * Finds the first value at or after a position. Positions are indexes of the array,
+     * or the values themselves in a bitmap.
+     * @param position first position to look at
+     * @return the position of the value, or -1 if there is none
+     */
+    int nextPosition(int position) {
+        if (!isBitmap())
+            return position < cardinality ? position : -1;
+        int word = position >>> 6;
+        if (word >= WORDS)
+            return -1;
+        long w = bits[word] & (-1L << position);
+        while (w == 0) {
+            if (++word == WORDS)
+                return -1;
+            w = bits[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(w);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @param position a position given by nextPosition
+     * @return the low 16 bits of the value in that position
+     */
+    int valueAt(int position) {
+        return isBitmap() ? position : values[position];
+    }
+}
@@ -0,0 +1,85 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Iterator of the values of a Roaring Bitmap in ascending order
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ */
+class RoaringIterator implements IntIterator {
+
+    /**
+     * High 16 bits of the values of each container
+     */
+    private final char[] keys;
+
+    /**
+     * Containers of the bitmap
+     */
+    private final RoaringContainer[] containers;
+
+    /**
+     * Number of containers
+     */
+    private final int size;
+
+    /**
+     * Container of the next value
+     */
+    private int container;
+
+    /**
+     * Position of the next value in its container, -1 if there is none
+     */
+    private int position;
+
+    public RoaringIterator(char[] keys, RoaringContainer[] containers, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if nextInt would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return position != -1;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    public int nextInt() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        int value = keys[container] << 16 | containers[container].valueAt(position);
+        position = containers[container].nextPosition(position + 1);
+        if (position == -1 && ++container < size)
+            position = containers[container].nextPosition(0);
+        return value;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, nextInt will return the first element.
+     */
+    @Override
+    public void rewind() {
+        container = 0;
+        position = size == 0 ? -1 : containers[0].nextPosition(0);
+    }
+}
@@ -0,0 +1,333 @@
+package dataStructures;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+
+/**
+ * Robin Hood Hash Table
+ * Open addressing with linear probing where an entry further from its home cell takes the
+ * cell of an entry closer to its own. Removals shift the following entries back instead of
+ * leaving removed cells, so probe sequences do not degrade over time.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+public class RobinHoodHashTable<K,V> extends HashTable<K,V> {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    //Load factors
+    static final float IDEAL_LOAD_FACTOR =0.5f;
+    static final float MAX_LOAD_FACTOR =0.85f;
+    static final int NOT_FOUND=-1;
+    static final int GROWTH_FACTOR =2;
+
+    // Longest distance from its home cell an entry may be placed before the table grows
+    static final int MAX_PROBE_DISTANCE = 32;
+
+    /**
+     * Keys of the table, null if the cell is empty
+     */
+    private transient Object[] keys;
+
+    /**
+     * Values of the table
+     */
+    private transient Object[] values;
+
+    /**
+     * Hash codes of the keys
+     */
+    private transient int[] hashes;
+
+    /**
+     * Longest distance from its home cell of any entry placed in the table
+     */
+    private transient int longestProbe;
+
+    /**
+     * Constructors
+     */
+
+    public RobinHoodHashTable( ){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RobinHoodHashTable( int capacity ){
+        super(capacity);
+        createTable(HashTable.tableSizeFor((int) (capacity / IDEAL_LOAD_FACTOR)));
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Allocates empty arrays with the given length
+     * @param arraySize length of the arrays
+     */
+    private void createTable(int arraySize) {
+        keys = new Object[arraySize];
+        values = new Object[arraySize];
+        hashes = new int[arraySize];
+        longestProbe = 0;
+        maxSize = (int)(arraySize * MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns the home cell of the specified hash code.
+     */
+    private int index( int hashCode ){
+        return hashCode & (keys.length - 1);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns how far the entry in the given cell is from its home cell.
+     */
+    private int distance( int idx ){
+        return (idx - index(hashes[idx])) & (keys.length - 1);
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(MAX_PROBE_DISTANCE)
+     *
+     * The search stops at an empty cell or at an entry closer to its home cell than the key
+     * would be, since the key would have taken that cell.
+     * @param key to search
+     * @param hashCode hash code of the key
+     * @return the index of the specified key or NOT_FOUND
+     */
+    private int search(K key, int hashCode) {
+        int idx = index(hashCode);
+        for (int dist = 0; dist <= longestProbe; dist++) {
+            Object k = keys[idx];
+            if (k == null || distance(idx) < dist)
+                return NOT_FOUND;
+            if (hashes[idx] == hashCode && k.equals(key))
+                return idx;
+            idx = (idx + 1) & (keys.length - 1);
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     *
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int idx = search(key, spread(key.hashCode()));
+        if (idx == NOT_FOUND)
+            return null;
+        return (V) values[idx];
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * replaces its value by the specified value and returns the old value;
+     * otherwise, inserts the entry (key, value) and returns null.
+     *
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int hashCode = spread(key.hashCode());
+        int idx = search(key, hashCode);
+        if (idx != NOT_FOUND) {
+            V oldValue = (V) values[idx];
+            values[idx] = value;
+            return oldValue;
+        }
+        if (currentSize >= maxSize)
+            rehash(keys.length * GROWTH_FACTOR);
+        insert(key, value, hashCode);
+        currentSize++;
+        return null;
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * Places a new entry, displacing the entries that are closer to their home cells.
+     * If the entry being placed gets too far from its home cell the table grows.
+     * @param key key of the new entry
+     * @param value value of the new entry
+     * @param hashCode hash code of the key
+     */
+    private void insert(Object key, Object value, int hashCode) {
+        int idx = index(hashCode);
+        int dist = 0;
+        while (keys[idx] != null) {
+            int residentDist = distance(idx);
+            if (residentDist < dist) {
+                Object k = keys[idx];
+                Object v = values[idx];
+                int h = hashes[idx];
+                keys[idx] = key;
+                values[idx] = value;
+                hashes[idx] = hashCode;
+                if (dist > longestProbe)
+                    longestProbe = dist;
+                key = k;
+                value = v;
+                hashCode = h;
+                dist = residentDist;
+            }
+            idx = (idx + 1) & (keys.length - 1);
+            dist++;
+            // A sparse table only gets long probes from equal hash codes, growing would not help
+            if (dist > MAX_PROBE_DISTANCE && currentSize * 4 >= keys.length) {
+                rehash(keys.length * GROWTH_FACTOR);
+                insert(key, value, hashCode);
+                return;
+            }
+        }
+        keys[idx] = key;
+        values[idx] = value;
+        hashes[idx] = hashCode;
+        if (dist > longestProbe)
+            longestProbe = dist;
+    }
+
+    /**
+     * Time complexity: O(n) (linear)
+     *
+     * Moves every entry to new arrays.
+     * @param minLength minimum length of the new arrays
+     */
+    private void rehash(int minLength) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+
+        createTable(tableSizeFor(minLength));
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null)
+                insert(oldKeys[i], oldValues[i], oldHashes[i]);
+        }
+    }
+
+    /**
+     * Time complexity
+     * Best scenario: O(1) (constant)
+     * Worst scenario: O(n) (linear)
+     *
+     * If there is an entry in the dictionary whose key is the specified key,
+     * removes it from the dictionary and returns its value;
+     * otherwise, returns null.
+     * The entries after it that are away from their home cell are shifted back one cell.
+     *
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        int idx = search(key, spread(key.hashCode()));
+        if (idx == NOT_FOUND)
+            return null;
+        V oldValue = (V) values[idx];
+        int next = (idx + 1) & (keys.length - 1);
+        while (keys[next] != null && distance(next) > 0) {
+            keys[idx] = keys[next];
+            values[idx] = values[next];
+            hashes[idx] = hashes[next];
+            idx = next;
+            next = (next + 1) & (keys.length - 1);
+        }
+        keys[idx] = null;
+        values[idx] = null;
+        currentSize--;
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns an iterator of the entries in the dictionary.
+     *
+     * @return iterator of the entries in the dictionary
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new ArrayHashEntryIterator<>(keys, values, currentSize);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the values in the dictionary.
+     *
+     * @return iterator of the values in the dictionary
+     */
+    @Override
+    public Iterator<V> values() {
+        return new ArrayHashIterator<>(keys, values, currentSize);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns an iterator of the keys in the dictionary.
+     *
+     * @return iterator of the keys in the dictionary
+     */
+    @Override
+    public Iterator<K> keys() {
+        return new ArrayHashIterator<>(keys, keys, currentSize);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(keys.length);
+        oos.writeInt(currentSize);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                oos.writeObject(keys[i]);
+                oos.writeObject(values[i]);
+            }
+        }
+        oos.flush();
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        createTable(tableSizeFor(ois.readInt()));
+        int size = ois.readInt();
+        currentSize = 0;
+        for (int i = 0; i < size; i++) {
+            Object key = ois.readObject();
+            insert(key, ois.readObject(), spread(key.hashCode()));
+            currentSize++;
+        }
+    }
+}
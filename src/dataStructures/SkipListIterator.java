@@ -0,0 +1,97 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Weakly consistent Concurrent Skip List iterator of entries, keys or values
+ * Follows the links of the nodes without locking, skipping the removed ones.
+ * May start at any node and go in descending order.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class SkipListIterator<E> implements Iterator<E> {
+
+    /**
+     * Map to iterate
+     */
+    private final ConcurrentSkipListSortedMap<?,?> map;
+
+    /**
+     * What to return, ENTRIES, KEYS or VALUES
+     */
+    private final int kind;
+
+    /**
+     * Node with the first element, null if there is none
+     */
+    private final SkipListNode<?,?> first;
+
+    /**
+     * True if the iteration is in descending order
+     */
+    private final boolean descending;
+
+    /**
+     * Node with the next element, null if there is none
+     */
+    private SkipListNode<?,?> next;
+
+    /**
+     * @param map map to iterate
+     * @param kind ENTRIES, KEYS or VALUES
+     * @param first node with the first element, null for an empty iteration
+     * @param descending true to iterate in descending order
+     */
+    public SkipListIterator(ConcurrentSkipListSortedMap<?,?> map, int kind,
+                            SkipListNode<?,?> first, boolean descending) {
+        this.map = map;
+        this.kind = kind;
+        this.first = first;
+        this.descending = descending;
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * Time complexity
+     * Ascending: O(1) (constant) amortized
+     * Descending: O(log n) expected
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        ConcurrentSkipListSortedMap raw = map;
+        E elem = (E) raw.element(next, kind);
+        next = descending ? raw.lower((Comparable) next.key, false) : raw.successor(next);
+        return elem;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @Override
+    public void rewind() {
+        next = first;
+    }
+}
@@ -0,0 +1,62 @@
+package dataStructures;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent Skip List Node
+ * A node is linked at every level up to its top level. It is only changed while its lock is held,
+ * and readers follow its links and flags without locking.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+final class SkipListNode<K,V> {
+
+    /**
+     * Key of the node, null in the head
+     */
+    final K key;
+
+    volatile V value;
+
+    /**
+     * Next node at each level, null after the last one
+     */
+    final AtomicReferenceArray<SkipListNode<K,V>> next;
+
+    /**
+     * Highest level the node is linked at
+     */
+    final int topLevel;
+
+    final ReentrantLock lock;
+
+    /**
+     * True once the node is being unlinked, its entry is no longer in the map
+     */
+    volatile boolean marked;
+
+    /**
+     * True once the node is linked at every level, its entry is in the map
+     */
+    volatile boolean fullyLinked;
+
+    SkipListNode(K key, V value, int topLevel) {
+        this.key = key;
+        this.value = value;
+        this.topLevel = topLevel;
+        this.next = new AtomicReferenceArray<>(topLevel + 1);
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return true if the entry of the node is in the map
+     */
+    boolean isLive() {
+        return fullyLinked && !marked;
+    }
+}
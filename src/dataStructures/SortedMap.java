@@ -1,5 +1,11 @@
 package dataStructures;
 
+import dataStructures.exceptions.InvalidPositionException;
+import dataStructures.exceptions.KeyOutOfRangeException;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+
 /**
  * Ordered Dictionary interface
  *
@@ -20,5 +26,67 @@ public interface SortedMap<K extends Comparable<K>, V>
      */
     Entry<K,V> maxEntry( );
 
-} 
+    /**
+     * Returns an iterator of the entries whose keys are not smaller than the specified key,
+     * in ascending order.
+     */
+    Iterator<Entry<K,V>> tailIterator( K from );
+
+    /**
+     * Returns an iterator of the entries in the dictionary, in descending order.
+     */
+    Iterator<Entry<K,V>> descendingIterator( );
+
+    /**
+     * Returns an iterator of the entries whose keys are not larger than the specified key,
+     * in descending order.
+     */
+    Iterator<Entry<K,V>> descendingIterator( K from );
+
+    /**
+     * Returns a view of the entries whose keys are between from, inclusive, and to, exclusive.
+     * Changes to the view are made in the dictionary and changes to the dictionary are seen in the view.
+     * @throws KeyOutOfRangeException - if an entry outside the range is put in the view
+     */
+    default SortedMap<K,V> subMap( K from, K to ){
+        return new SubSortedMap<>(this, from, to);
+    }
+
+    /**
+     * Returns the number of keys in the dictionary smaller than the specified key,
+     * which is the position of its entry in the iteration if there is one.
+     * Iterates the entries, trees that know the size of their subtrees override it.
+     */
+    default int rank( K key ){
+        int rank = 0;
+        Iterator<K> it = keys();
+        while (it.hasNext() && it.next().compareTo(key) < 0)
+            rank++;
+        return rank;
+    }
+
+    /**
+     * Returns the entry in the specified position of the iteration, starting at 0.
+     * Iterates the entries, trees that know the size of their subtrees override it.
+     * @throws InvalidPositionException - if the position is not between 0 and size - 1
+     */
+    default Entry<K,V> select( int position ){
+        if (position < 0 || position >= size())
+            throw new InvalidPositionException();
+        Iterator<Entry<K,V>> it = iterator();
+        for (int i = 0; i < position; i++)
+            it.next();
+        return it.next();
+    }
+
+    /**
+     * Returns a spliterator of the entries in the dictionary, in ascending order of their keys.
+     * Splits copy batches of the iteration into arrays,
+     * trees that can split their subtrees directly override it.
+     */
+    @Override
+    default Spliterator<Entry<K,V>> spliterator( ){
+        return Spliterators.spliterator(new IteratorAdapter<>(iterator()), size(), Spliterator.ORDERED);
+    }
 
+}
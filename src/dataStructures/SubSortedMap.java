@@ -0,0 +1,274 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyMapException;
+import dataStructures.exceptions.InvalidPositionException;
+import dataStructures.exceptions.KeyOutOfRangeException;
+
+import java.io.Serial;
+
+/**
+ * View of the entries of a Sorted Map whose keys are in a range
+ * Every operation is made on the backing map, seeking to the range and stopping at its end,
+ * so the view holds no entries of its own.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <K> Generic Key
+ * @param <V> Generic Value
+ */
+class SubSortedMap<K extends Comparable<K>,V> implements SortedMap<K,V> {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Backing map
+     */
+    private final SortedMap<K,V> map;
+
+    /**
+     * Smallest key of the range
+     */
+    private final K from;
+
+    /**
+     * Key after the range, not included
+     */
+    private final K to;
+
+    /**
+     * @param map backing map
+     * @param from smallest key of the range
+     * @param to key after the range, not included
+     */
+    public SubSortedMap(SortedMap<K,V> map, K from, K to) {
+        this.map = map;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * @return true if the key is in the range
+     */
+    private boolean inRange(K key) {
+        return key.compareTo(from) >= 0 && key.compareTo(to) < 0;
+    }
+
+    /**
+     * Time complexity: O(log n) if the backing map ranks keys in O(log n)
+     * Returns true iff the dictionary contains no entries.
+     *
+     * @return true if dictionary is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    /**
+     * Time complexity: O(log n) if the backing map ranks keys in O(log n)
+     * Returns the number of entries in the dictionary.
+     *
+     * @return number of elements in the dictionary
+     */
+    @Override
+    public int size() {
+        if (from.compareTo(to) >= 0)
+            return 0;
+        return map.rank(to) - map.rank(from);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the range whose key is the specified key,
+     * returns its value; otherwise, returns null.
+     * @param key whose associated value is to be returned
+     * @return value of entry in the dictionary whose key is the specified key,
+     * or null if the dictionary does not have an entry with that key
+     */
+    @Override
+    public V get(K key) {
+        return inRange(key) ? map.get(key) : null;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Puts the entry in the backing map.
+     * @param key   with which the specified value is to be associated
+     * @param value to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the dictionary does not have an entry with that key
+     * @throws KeyOutOfRangeException - if the key is not in the range
+     */
+    @Override
+    public V put(K key, V value) {
+        if (!inRange(key))
+            throw new KeyOutOfRangeException();
+        return map.put(key, value);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * If there is an entry in the range whose key is the specified key,
+     * removes it from the backing map and returns its value; otherwise, returns null.
+     * @param key whose entry is to be removed from the map
+     * @return previous value associated with key,
+     * or null if the dictionary does not an entry with that key
+     */
+    @Override
+    public V remove(K key) {
+        return inRange(key) ? map.remove(key) : null;
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry with the smallest key in the range.
+     * @return the min entry
+     * @throws EmptyMapException -> if there are no entries in the range
+     */
+    @Override
+    public Entry<K, V> minEntry() {
+        Iterator<Entry<K,V>> it = iterator();
+        if (!it.hasNext())
+            throw new EmptyMapException();
+        return it.next();
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns the entry with the largest key in the range.
+     * @return the max entry
+     * @throws EmptyMapException -> if there are no entries in the range
+     */
+    @Override
+    public Entry<K, V> maxEntry() {
+        Iterator<Entry<K,V>> it = descendingIterator();
+        if (!it.hasNext())
+            throw new EmptyMapException();
+        return it.next();
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries in the range, in ascending order.
+     * @return iterator of the entries in the range
+     */
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return new RangeIterator<>(map.tailIterator(from), from, to, false);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries in the range whose keys are not smaller than the specified key,
+     * in ascending order.
+     * @param from smallest key to iterate
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> tailIterator(K from) {
+        K start = from.compareTo(this.from) > 0 ? from : this.from;
+        return new RangeIterator<>(map.tailIterator(start), this.from, to, false);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries in the range, in descending order.
+     * @return iterator of the entries in the range
+     */
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator() {
+        return new RangeIterator<>(map.descendingIterator(to), from, to, true);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     *
+     * Returns an iterator of the entries in the range whose keys are not larger than the specified key,
+     * in descending order.
+     * @param from largest key to iterate
+     * @return iterator of the entries
+     */
+    @Override
+    public Iterator<Entry<K, V>> descendingIterator(K from) {
+        K start = from.compareTo(to) < 0 ? from : to;
+        return new RangeIterator<>(map.descendingIterator(start), this.from, to, true);
+    }
+
+    /**
+     * Time complexity: O(log n) if the backing map ranks keys in O(log n)
+     *
+     * Returns the number of keys in the range smaller than the specified key.
+     * @param key key
+     * @return number of smaller keys
+     */
+    @Override
+    public int rank(K key) {
+        if (key.compareTo(from) <= 0)
+            return 0;
+        if (key.compareTo(to) >= 0)
+            return size();
+        return map.rank(key) - map.rank(from);
+    }
+
+    /**
+     * Time complexity: O(log n) if the backing map selects positions in O(log n)
+     *
+     * Returns the entry in the specified position of the range, starting at 0.
+     * @param position position of the entry
+     * @return the entry in that position
+     * @throws InvalidPositionException - if the position is not between 0 and size - 1
+     */
+    @Override
+    public Entry<K, V> select(int position) {
+        if (position < 0 || position >= size())
+            throw new InvalidPositionException();
+        return map.select(map.rank(from) + position);
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     *
+     * Returns a view of the entries of the range whose keys are also between from and to.
+     * @return the view
+     */
+    @Override
+    public SortedMap<K, V> subMap(K from, K to) {
+        K start = from.compareTo(this.from) > 0 ? from : this.from;
+        K end = to.compareTo(this.to) < 0 ? to : this.to;
+        return new SubSortedMap<>(map, start, end);
+    }
+
+    /**
+     * Time complexity: O(log n)
+     * Returns an iterator of the values in the range.
+     *
+     * @return iterator of the values in the range
+     */
+    @Override
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public Iterator<V> values() {
+        return new ValuesIterator(iterator());
+    }
+
+    /**
+     * Time complexity: O(log n)
+     * Returns an iterator of the keys in the range.
+     *
+     * @return iterator of the keys in the range
+     */
+    @Override
+    @SuppressWarnings({"unchecked","rawtypes"})
+    public Iterator<K> keys() {
+        return new KeysIterator(iterator());
+    }
+}
@@ -0,0 +1,34 @@
+package dataStructures;
+
+/**
+ * Ternary Search Tree Node
+ * Holds one character of the keys that go through it. Keys with a smaller or larger character
+ * at that position go to the left or right child, and keys with the same one go on to the middle child.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <V> Generic Value
+ */
+final class TSTNode<V> {
+
+    final char character;
+
+    /**
+     * Key ending at this node, null if none does
+     */
+    String key;
+
+    /**
+     * Value of the key ending at this node, null if none does
+     */
+    V value;
+
+    TSTNode<V> left;
+
+    TSTNode<V> middle;
+
+    TSTNode<V> right;
+
+    TSTNode(char character) {
+        this.character = character;
+    }
+}
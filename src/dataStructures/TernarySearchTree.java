@@ -0,0 +1,266 @@
+package dataStructures;
+
+import dataStructures.exceptions.EmptyKeyException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Ternary Search Tree with String keys
+ * Each node holds a character, so a key is found by following its characters from the root,
+ * and the keys starting with a prefix are all under the node of its last character.
+ * Finding them takes time proportional to the length of the prefix plus their number,
+ * without looking at any other key. Iterations are in ascending order of the keys.
+ * Null values are not stored.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <V> Generic Value
+ */
+public class TernarySearchTree<V> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    // What an iterator returns
+    static final int KEYS = 1;
+    static final int VALUES = 2;
+
+    /**
+     * Root of the tree, null if it is empty
+     */
+    private transient TSTNode<V> root;
+
+    /**
+     * Number of keys in the tree
+     */
+    private transient int currentSize;
+
+    public TernarySearchTree( ){
+        root = null;
+        currentSize = 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true iff the tree contains no keys.
+     *
+     * @return true if the tree is empty
+     */
+    public boolean isEmpty() {
+        return currentSize == 0;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns the number of keys in the tree.
+     *
+     * @return number of keys in the tree
+     */
+    public int size() {
+        return currentSize;
+    }
+
+    /**
+     * Time complexity: O(m + log n), m being the length of the key
+     *
+     * @param key key, not empty
+     * @return node of the last character of the key, null if no key starts with it
+     */
+    private TSTNode<V> findNode(String key) {
+        TSTNode<V> node = root;
+        int i = 0;
+        while (node != null) {
+            char c = key.charAt(i);
+            if (c < node.character)
+                node = node.left;
+            else if (c > node.character)
+                node = node.right;
+            else if (++i == key.length())
+                return node;
+            else
+                node = node.middle;
+        }
+        return null;
+    }
+
+    /**
+     * Time complexity: O(m + log n), m being the length of the key
+     *
+     * If the tree has the specified key, returns its value; otherwise, returns null.
+     * @param key whose associated value is to be returned
+     * @return value of the key, or null if the tree does not have it
+     */
+    public V get(String key) {
+        if (key.isEmpty())
+            return null;
+        TSTNode<V> node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Time complexity: O(m + log n), m being the length of the key
+     *
+     * If the tree has the specified key, replaces its value by the specified value
+     * and returns the old value; otherwise, inserts the key with the value and returns null.
+     * @param key   not empty, with which the specified value is to be associated
+     * @param value not null, to be associated with the specified key
+     * @return previous value associated with key,
+     * or null if the tree does not have that key
+     * @throws EmptyKeyException - if the key is empty, the tree is left unchanged
+     */
+    public V put(String key, V value) {
+        if (key.isEmpty())
+            throw new EmptyKeyException();
+        if (root == null)
+            root = new TSTNode<>(key.charAt(0));
+        TSTNode<V> node = root;
+        int i = 0;
+        while (true) {
+            char c = key.charAt(i);
+            if (c < node.character) {
+                if (node.left == null)
+                    node.left = new TSTNode<>(c);
+                node = node.left;
+            } else if (c > node.character) {
+                if (node.right == null)
+                    node.right = new TSTNode<>(c);
+                node = node.right;
+            } else if (++i == key.length())
+                break;
+            else {
+                if (node.middle == null)
+                    node.middle = new TSTNode<>(key.charAt(i));
+                node = node.middle;
+            }
+        }
+        V oldValue = node.value;
+        if (oldValue == null)
+            currentSize++;
+        node.key = key;
+        node.value = value;
+        return oldValue;
+    }
+
+    /**
+     * Time complexity: O(m + log n), m being the length of the prefix
+     *
+     * Returns an iterator of the values of the keys starting with the prefix,
+     * in ascending order of the keys.
+     * @param prefix prefix of the keys, the empty prefix iterates every value
+     * @return iterator of the values
+     */
+    public Iterator<V> prefixValues(String prefix) {
+        return prefixIterator(prefix, VALUES);
+    }
+
+    /**
+     * Time complexity: O(m + log n), m being the length of the prefix
+     *
+     * Returns an iterator of the keys starting with the prefix, in ascending order.
+     * @param prefix prefix of the keys, the empty prefix iterates every key
+     * @return iterator of the keys
+     */
+    public Iterator<String> prefixKeys(String prefix) {
+        return prefixIterator(prefix, KEYS);
+    }
+
+    /**
+     * Time complexity: O(m + log n), m being the length of the prefix
+     *
+     * @param prefix prefix of the keys
+     * @param kind KEYS or VALUES
+     * @return iterator of the keys or values starting with the prefix
+     */
+    private <E> Iterator<E> prefixIterator(String prefix, int kind) {
+        if (prefix.isEmpty())
+            return new TernarySearchTreeIterator<>(root, false, kind);
+        TSTNode<V> node = findNode(prefix);
+        return new TernarySearchTreeIterator<>(node, true, kind);
+    }
+
+    /**
+     * Time complexity: O(m + k log n), m being the length of the result
+     * and k the number of characters added to the prefix
+     *
+     * Returns the longest key prefix shared by every key starting with the prefix,
+     * so that an interactive completion can fill in the characters all of them have.
+     * @param prefix prefix of the keys
+     * @return the completed prefix, or null if no key starts with the prefix
+     */
+    public String complete(String prefix) {
+        TSTNode<V> node;
+        if (prefix.isEmpty()) {
+            node = root;
+            if (node == null)
+                return null;
+            if (node.left != null || node.right != null)
+                return prefix;
+        } else {
+            node = findNode(prefix);
+            if (node == null)
+                return null;
+            if (node.value != null)
+                return prefix;
+            node = node.middle;
+        }
+        StringBuilder completion = new StringBuilder(prefix);
+        // follows the middle links while there is a single way to go on
+        while (node != null && node.left == null && node.right == null) {
+            completion.append(node.character);
+            if (node.value != null)
+                break;
+            node = node.middle;
+        }
+        return completion.toString();
+    }
+
+    /**
+     * Time complexity: O(n log n)
+     *
+     * Puts the sorted keys from the middle one outwards, so the tree is as balanced
+     * as the keys allow.
+     * @param keys keys in ascending order
+     * @param values value of each key
+     * @param first position of the first key to put
+     * @param last position of the last key to put
+     */
+    private void putBalanced(String[] keys, V[] values, int first, int last) {
+        if (first > last)
+            return;
+        int middle = (first + last) >>> 1;
+        put(keys[middle], values[middle]);
+        putBalanced(keys, values, first, middle - 1);
+        putBalanced(keys, values, middle + 1, last);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        oos.defaultWriteObject();
+        oos.writeInt(currentSize);
+        Iterator<TSTNode<V>> it = new TernarySearchTreeIterator<>(root, false, TernarySearchTreeIterator.NODES);
+        while (it.hasNext()) {
+            TSTNode<V> node = it.next();
+            oos.writeObject(node.key);
+            oos.writeObject(node.value);
+        }
+        oos.flush();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ois.defaultReadObject();
+        int size = ois.readInt();
+        String[] keys = new String[size];
+        V[] values = (V[]) new Object[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (String) ois.readObject();
+            values[i] = (V) ois.readObject();
+        }
+        // inserting the saved keys in order would chain them to the right
+        putBalanced(keys, values, 0, size - 1);
+    }
+}
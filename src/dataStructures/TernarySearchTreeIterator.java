@@ -0,0 +1,164 @@
+package dataStructures;
+
+import dataStructures.exceptions.NoSuchElementException;
+
+/**
+ * Ternary Search Tree iterator of nodes, keys or values, in ascending order of the keys
+ * The subtrees still to visit are kept in a stack, so each step only visits
+ * the nodes between two keys.
+ *
+ * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
+ * @param <E> Generic Element
+ */
+class TernarySearchTreeIterator<E> implements Iterator<E> {
+
+    // Returns the nodes themselves
+    static final int NODES = 0;
+
+    /**
+     * Node where the iteration starts
+     */
+    private final TSTNode<?> start;
+
+    /**
+     * True if the iteration is of the keys starting with the key of the start node's prefix,
+     * false if it is of the whole subtree of the start node
+     */
+    private final boolean prefix;
+
+    /**
+     * What to return, NODES, KEYS or VALUES
+     */
+    private final int kind;
+
+    /**
+     * Nodes still to visit
+     */
+    private TSTNode<?>[] stack;
+
+    /**
+     * For each node in the stack, true if its key is next, false if its subtree is still to visit
+     */
+    private boolean[] visit;
+
+    /**
+     * Number of nodes in the stack
+     */
+    private int top;
+
+    /**
+     * Node with the next key, null if there is none
+     */
+    private TSTNode<?> next;
+
+    /**
+     * @param start node where the iteration starts, null for an empty iteration
+     * @param prefix true to iterate the key of the node and the keys under its middle child,
+     *               false to iterate the whole subtree of the node
+     * @param kind NODES, KEYS or VALUES
+     */
+    public TernarySearchTreeIterator(TSTNode<?> start, boolean prefix, int kind) {
+        this.start = start;
+        this.prefix = prefix;
+        this.kind = kind;
+        this.stack = new TSTNode<?>[16];
+        this.visit = new boolean[16];
+        rewind();
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized
+     *
+     * Pushes a node, growing the stack if it is full
+     */
+    private void push(TSTNode<?> node, boolean isVisit) {
+        if (node == null)
+            return;
+        if (top == stack.length) {
+            TSTNode<?>[] newStack = new TSTNode<?>[top * 2];
+            boolean[] newVisit = new boolean[top * 2];
+            System.arraycopy(stack, 0, newStack, 0, top);
+            System.arraycopy(visit, 0, newVisit, 0, top);
+            stack = newStack;
+            visit = newVisit;
+        }
+        stack[top] = node;
+        visit[top] = isVisit;
+        top++;
+    }
+
+    /**
+     * Time complexity: O(m) (linear in the nodes between two keys)
+     *
+     * Pops subtrees until a node with a key is on top, which becomes the next one.
+     * A subtree is visited left child, own key, middle child and right child, in that order.
+     */
+    private void advance() {
+        while (top > 0) {
+            TSTNode<?> node = stack[--top];
+            if (visit[top]) {
+                next = node;
+                return;
+            }
+            push(node.right, false);
+            push(node.middle, false);
+            if (node.value != null)
+                push(node, true);
+            push(node.left, false);
+        }
+        next = null;
+    }
+
+    /**
+     * Time complexity: O(1) (constant)
+     * Returns true if next would return an element
+     * rather than throwing an exception.
+     *
+     * @return true iff the iteration has more elements
+     */
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * Time complexity: O(1) (constant) amortized per node visited
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException - if call is made without verifying pre-condition
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        TSTNode<?> node = next;
+        advance();
+        if (kind == TernarySearchTree.KEYS)
+            return (E) node.key;
+        if (kind == TernarySearchTree.VALUES)
+            return (E) node.value;
+        return (E) node;
+    }
+
+    /**
+     * Time complexity: O(m) (linear in the nodes before the first key)
+     *
+     * Restarts the iteration.
+     * After rewind, if the iteration is not empty, next will return the first element.
+     */
+    @Override
+    public void rewind() {
+        top = 0;
+        if (start != null) {
+            if (prefix) {
+                push(start.middle, false);
+                if (start.value != null)
+                    push(start, true);
+            } else
+                push(start, false);
+        }
+        advance();
+    }
+}
@@ -6,14 +6,31 @@ package dataStructures;
  * @author Salvador Lourenço Antunes salvadorantunes06@gmail.com
  * @param <E> Generic element
  */
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.io.Serial;
 import java.io.Serializable;
 
 abstract class Tree<E> implements Serializable {
 
+    @Serial
+    private static final long serialVersionUID = 2074061448118938431L;
+
+    /**
+     * Fields of the saved form, which older files filled with the whole node graph
+     */
+    @Serial
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("root", Node.class),
+            new ObjectStreamField("currentSize", int.class)
+    };
+
     /**
-     * Root
+     * Root, subclasses save their own elements
      */
-    protected Node<E> root;
+    protected transient Node<E> root;
 
     /**
      * Number of elements
@@ -53,4 +70,21 @@ abstract class Tree<E> implements Serializable {
      */
     Node<E> root(){ return root;}
 
-}
\ No newline at end of file
+
+    @Serial
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        ObjectOutputStream.PutField fields = oos.putFields();
+        fields.put("root", null);
+        fields.put("currentSize", currentSize);
+        oos.writeFields();
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = ois.readFields();
+        // only older files hold the nodes here, subclasses rebuild the tree from them
+        root = (Node<E>) fields.get("root", null);
+        currentSize = fields.get("currentSize", 0);
+    }
+}
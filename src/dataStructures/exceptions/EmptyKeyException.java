@@ -0,0 +1,7 @@
+package dataStructures.exceptions;
+
+public class EmptyKeyException extends RuntimeException {
+    public EmptyKeyException() {
+        super();
+    }
+}
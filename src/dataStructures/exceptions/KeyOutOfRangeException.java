@@ -0,0 +1,7 @@
+package dataStructures.exceptions;
+
+public class KeyOutOfRangeException extends RuntimeException {
+    public KeyOutOfRangeException() {
+        super();
+    }
+}
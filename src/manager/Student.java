@@ -7,6 +7,18 @@ import java.io.Serializable;
  */
 public interface Student extends StudentGetter, Serializable {
 
+    /**
+     * Gets the student's ordinal, the position in which he was added to the subject
+     * @return student's ordinal
+     */
+    int getOrdinal();
+
+    /**
+     * Gives an ordinal to a student loaded from a file saved before students had one
+     * @param ordinal student's ordinal
+     */
+    void setOrdinal(int ordinal);
+
     /**
      * Grade's an assignment
      * @param grade grade
@@ -1,9 +1,13 @@
 package manager;
 
-import dataStructures.ClosedHashTable;
+import dataStructures.CompactHashTable;
+import dataStructures.DoubleIterator;
 import dataStructures.Iterator;
 import dataStructures.Map;
+import dataStructures.ObjectDoubleMap;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 
@@ -17,15 +21,25 @@ public class StudentClass implements Student, Serializable {
     @Serial
     private static final long serialVersionUID = 0L;
 
+    /**
+     * Grade of an assignment or component without grade
+     */
+    private static final double NO_GRADE = -1;
+
     /**
      * Student's name
      */
-    private final String name;
+    private String name;
 
     /**
      * Student's number
      */
-    private final int number;
+    private int number;
+
+    /**
+     * Student's ordinal in the subject, -1 until the subject gives one to a student of an older file
+     */
+    private int ordinal;
 
     /**
      * Number of completed assignments
@@ -40,23 +54,24 @@ public class StudentClass implements Student, Serializable {
     /**
      * Student's grades
      */
-    private final Map<ComponentGetter, Map<Assignment, Double>> grades;
+    private Map<ComponentGetter, ObjectDoubleMap<Assignment>> grades;
 
     /**
      * Student's component grades
      */
-    private final Map<ComponentGetter, Double> componentGrades;
+    private ObjectDoubleMap<ComponentGetter> componentGrades;
 
-    public StudentClass(String name, int number,int componentNumber, Iterator<Map.Entry<String, Component>> it) {
+    public StudentClass(String name, int number, int ordinal, int componentNumber, Iterator<Map.Entry<String, Component>> it) {
         this.name = name;
         this.number = number;
+        this.ordinal = ordinal;
         finalGrade = 0;
         this.assignmentNumber = 0;
-        grades = new ClosedHashTable<>(componentNumber);
-        componentGrades = new ClosedHashTable<>(componentNumber);
+        grades = new CompactHashTable<>(componentNumber);
+        componentGrades = new ObjectDoubleMap<>(componentNumber, NO_GRADE);
         while (it.hasNext()){
             Map.Entry<String, Component> entry = it.next();
-            grades.put(entry.value(), new ClosedHashTable<>());
+            grades.put(entry.value(), new ObjectDoubleMap<>(entry.value().getAssignmentNumber(), NO_GRADE));
             componentGrades.put(entry.value(), 0.0);
         }
     }
@@ -71,6 +86,16 @@ public class StudentClass implements Student, Serializable {
         return number;
     }
 
+    @Override
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    @Override
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     @Override
     public double getFinalGrade() {
         return finalGrade;
@@ -83,25 +108,26 @@ public class StudentClass implements Student, Serializable {
 
     @Override
     public double getAssignmentGrade(Assignment assignment) {
-        if (grades.get(assignment.component()) == null || grades.get(assignment.component()).get(assignment)==null)
-            return -1;
-        return grades.get(assignment.component()).get(assignment);
+        ObjectDoubleMap<Assignment> assignments = grades.get(assignment.component());
+        if (assignments == null)
+            return NO_GRADE;
+        return assignments.get(assignment);
     }
 
     @Override
     public double getComponentGrade(ComponentGetter component) {
-        if (componentGrades.get(component) == null)
-            return -1;
         return componentGrades.get(component);
     }
 
     @Override
     public boolean hasAttendance() {
-        Iterator<Map.Entry<ComponentGetter, Double>> it = componentGrades.iterator();
+        Iterator<ComponentGetter> it = componentGrades.keys();
+        DoubleIterator gradesIt = componentGrades.values();
         while (it.hasNext()) {
-            Map.Entry<ComponentGetter, Double> entry = it.next();
-            if (entry.key() instanceof MinGradeComponent && ((MinGradeComponent) entry.key()).hasPassed(entry.value())
-                    && ((MinGradeComponent)entry.key()).mandatoryForAttendance())
+            ComponentGetter component = it.next();
+            double grade = gradesIt.nextDouble();
+            if (component instanceof MinGradeComponent && ((MinGradeComponent) component).hasPassed(grade)
+                    && ((MinGradeComponent)component).mandatoryForAttendance())
                 return false;
         }
         return true;
@@ -109,10 +135,12 @@ public class StudentClass implements Student, Serializable {
 
     @Override
     public boolean hasPassed() {
-        Iterator<Map.Entry<ComponentGetter, Double>> it = componentGrades.iterator();
+        Iterator<ComponentGetter> it = componentGrades.keys();
+        DoubleIterator gradesIt = componentGrades.values();
         while (it.hasNext()) {
-            Map.Entry<ComponentGetter, Double> entry = it.next();
-            if (entry.key() instanceof MinGradeComponent && ((MinGradeComponent) entry.key()).hasPassed(entry.value()))
+            ComponentGetter component = it.next();
+            double grade = gradesIt.nextDouble();
+            if (component instanceof MinGradeComponent && ((MinGradeComponent) component).hasPassed(grade))
                 return false;
         }
         return Math.toIntExact(Math.round(finalGrade)) >= 10;
@@ -121,8 +149,8 @@ public class StudentClass implements Student, Serializable {
     @Override
     public void setGrade(double grade, Assignment assignment) {
         ComponentGetter component = assignment.component();
-        Map<Assignment, Double> assignments = grades.get(component);
-        if (assignments.put(assignment, grade) == null)
+        ObjectDoubleMap<Assignment> assignments = grades.get(component);
+        if (assignments.put(assignment, grade) == NO_GRADE)
             assignmentNumber++;
         componentGrades.put(component, calculateComponentGrade(component));
         calculateFinalGrade();
@@ -135,13 +163,9 @@ public class StudentClass implements Student, Serializable {
      * @return component grade
      */
     private double calculateComponentGrade(ComponentGetter component) {
-        double grade = 0;
-        Iterator<Map.Entry<Assignment, Double>> it = grades.get(component).iterator();
-        while(it.hasNext()) {
-            Map.Entry<Assignment, Double> entry = it.next();
-            double assigmentWeight = (double) entry.key().weight() / 100;
-            grade += entry.value() * assigmentWeight;
-        }
+        ObjectDoubleMap<Assignment> assignments = grades.get(component);
+        double grade = assignments.sum((assignment, assignmentGrade) ->
+                assignmentGrade * ((double) assignment.weight() / 100));
         componentGrades.put(component, grade);
         return grade;
     }
@@ -150,11 +174,50 @@ public class StudentClass implements Student, Serializable {
      * Calculates a student's final grade
      */
     private void calculateFinalGrade() {
-        finalGrade = 0;
-        Iterator<Map.Entry<ComponentGetter, Double>> it = componentGrades.iterator();
-        while(it.hasNext()) {
-            Map.Entry<ComponentGetter, Double> entry = it.next();
-            finalGrade += entry.value() * ((double) entry.key().getWeight()/100);
+        finalGrade = componentGrades.sum((component, grade) ->
+                grade * ((double) component.getWeight()/100));
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = ois.readFields();
+        name = (String) fields.get("name", null);
+        number = fields.get("number", 0);
+        ordinal = fields.get("ordinal", -1);
+        assignmentNumber = fields.get("assignmentNumber", 0);
+        finalGrade = fields.get("finalGrade", 0.0);
+        // older files kept the grades boxed, in maps of Double
+        Map<ComponentGetter, Object> savedGrades = (Map<ComponentGetter, Object>) fields.get("grades", null);
+        grades = new CompactHashTable<>(savedGrades.size());
+        Iterator<Map.Entry<ComponentGetter, Object>> it = savedGrades.iterator();
+        while (it.hasNext()) {
+            Map.Entry<ComponentGetter, Object> entry = it.next();
+            if (entry.value() instanceof ObjectDoubleMap)
+                grades.put(entry.key(), (ObjectDoubleMap<Assignment>) entry.value());
+            else
+                grades.put(entry.key(), unbox((Map<Assignment, Double>) entry.value(), entry.key().getAssignmentNumber()));
+        }
+        Object savedComponentGrades = fields.get("componentGrades", null);
+        if (savedComponentGrades instanceof ObjectDoubleMap)
+            componentGrades = (ObjectDoubleMap<ComponentGetter>) savedComponentGrades;
+        else
+            componentGrades = unbox((Map<ComponentGetter, Double>) savedComponentGrades, savedGrades.size());
+    }
+
+    /**
+     * Copies the grades of an older file into a map of unboxed grades
+     * @param boxed grades of an older file
+     * @param capacity expected number of grades
+     * @return map of the same grades
+     */
+    private static <K> ObjectDoubleMap<K> unbox(Map<K, Double> boxed, int capacity) {
+        ObjectDoubleMap<K> grades = new ObjectDoubleMap<>(capacity, NO_GRADE);
+        Iterator<Map.Entry<K, Double>> it = boxed.iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, Double> entry = it.next();
+            grades.put(entry.key(), entry.value());
         }
+        return grades;
     }
 }
@@ -57,6 +57,28 @@ public interface Subject extends Serializable {
      */
     Iterator<StudentGetter> getStudentsById(Predicate<StudentGetter> predicate) ;
 
+    /**
+     * Gets the students registered for the exam, those with attendance who did not pass
+     * @param byNumber true to sort them by number, false by alphabetic order
+     * @return student iterator in the requested order
+     */
+    Iterator<StudentGetter> getExamStudents(boolean byNumber);
+
+    /**
+     * Gets the students graded in an assignment
+     * @param assignment assignment
+     * @param byNumber true to sort them by number, false by alphabetic order
+     * @return student iterator in the requested order
+     */
+    Iterator<StudentGetter> getStudentsGradedIn(Assignment assignment, boolean byNumber);
+
+    /**
+     * Gets the students whose name starts with a prefix, ignoring case
+     * @param prefix start of the name
+     * @return student iterator by alphabetic order
+     */
+    Iterator<StudentGetter> getStudentsByPrefix(String prefix);
+
     /**
      * Gets an assignment by its name
      * @param assignment assignment name
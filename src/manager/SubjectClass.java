@@ -3,6 +3,8 @@ package manager;
 import dataStructures.*;
 import manager.exceptions.*;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 
@@ -19,22 +21,22 @@ public class SubjectClass implements Subject, Serializable {
     /**
      * Subject's name
      */
-    private final String name;
+    private String name;
 
     /**
      * Subject's components
      */
-    private final Map<String, Component> components;
+    private Map<String, Component> components;
 
     /**
      * Subject's components in insertion order
      */
-    private final List<ComponentGetter> componentList;
+    private List<ComponentGetter> componentList;
 
     /**
      * Subject's assignments
      */
-    private final Map<String, Assignment> assignments;
+    private Map<String, Assignment> assignments;
 
     /**
      * Subject's total weight, after adding all components it must be 100
@@ -44,23 +46,47 @@ public class SubjectClass implements Subject, Serializable {
     /**
      * Used to get a student by his number
      */
-    private final Map<Integer, Student> studentsNumber;
+    private IntObjectMap<Student> studentsNumber;
 
     /**
      * Used to get a student by his name
      */
-    private final Map<String, Student> studentsName;
+    private Map<String, Student> studentsName;
+
+    /**
+     * Used to find students by the start of their name
+     */
+    private TernarySearchTree<StudentGetter> studentsNamePrefix;
 
     /**
      * Subject's students by alphabetic order
      */
-    private final SortedMap<String, StudentGetter> studentsByAlphabeticOrder;
+    private SortedMap<String, StudentGetter> studentsByAlphabeticOrder;
 
     /**
      * Subject's students sorted by their number
      */
-    private final SortedMap<Integer, StudentGetter> studentsSortedByNumber;
+    private IntSortedMap<StudentGetter> studentsSortedByNumber;
+
+    /**
+     * Subject's students by their ordinal
+     */
+    private List<StudentGetter> studentsByOrdinal;
 
+    /**
+     * Ordinals of the students with attendance
+     */
+    private RoaringBitmap studentsWithAttendance;
+
+    /**
+     * Ordinals of the students who did not pass
+     */
+    private RoaringBitmap studentsFailed;
+
+    /**
+     * Ordinals of the students graded in each assignment
+     */
+    private Map<String, RoaringBitmap> studentsGraded;
 
     public SubjectClass() {
         this(null, 0);
@@ -70,12 +96,24 @@ public class SubjectClass implements Subject, Serializable {
         totalWeight = 0;
         this.name = name;
         this.componentList = new ListInArray<>(components);
-        this.components = new ClosedHashTable<>(components);
-        this.assignments = new ClosedHashTable<>(components*2);
-        this.studentsNumber = new ClosedHashTable<>();
-        this.studentsName = new ClosedHashTable<>();
-        this.studentsByAlphabeticOrder = new AVLSortedMap<>();
-        this.studentsSortedByNumber = new AVLSortedMap<>();
+        this.components = new CompactHashTable<>(components);
+        this.assignments = new ReadMostlyHashTable<>(components*2);
+        this.studentsGraded = new ReadMostlyHashTable<>(components*2);
+        createStudentIndexes();
+    }
+
+    /**
+     * Creates the empty maps, list and bitmaps where the students are kept
+     */
+    private void createStudentIndexes() {
+        this.studentsNumber = new IntObjectMap<>();
+        this.studentsName = new ReadMostlyHashTable<>();
+        this.studentsNamePrefix = new TernarySearchTree<>();
+        this.studentsByAlphabeticOrder = new ArrayAVLSortedMap<>();
+        this.studentsSortedByNumber = new IntSortedMap<>();
+        this.studentsByOrdinal = new ListInArray<>();
+        this.studentsWithAttendance = new RoaringBitmap();
+        this.studentsFailed = new RoaringBitmap();
     }
 
     @Override
@@ -115,12 +153,41 @@ public class SubjectClass implements Subject, Serializable {
 
     @Override
     public Iterator<StudentGetter> getStudentsByName(Predicate<StudentGetter> predicate){
-        return new FilterIterator<>(studentsByAlphabeticOrder.values(), predicate);
+        return Pipeline.of(studentsByAlphabeticOrder.values()).filter(predicate);
     }
 
     @Override
     public Iterator<StudentGetter> getStudentsById(Predicate<StudentGetter> predicate){
-        return new FilterIterator<>(studentsSortedByNumber.values(), predicate);
+        return Pipeline.of(studentsSortedByNumber.values()).filter(predicate);
+    }
+
+    @Override
+    public Iterator<StudentGetter> getExamStudents(boolean byNumber){
+        return getStudents(RoaringBitmap.and(studentsWithAttendance, studentsFailed), byNumber);
+    }
+
+    @Override
+    public Iterator<StudentGetter> getStudentsGradedIn(Assignment assignment, boolean byNumber){
+        return getStudents(studentsGraded.get(assignment.name().toLowerCase()), byNumber);
+    }
+
+    /**
+     * Gets the students whose ordinals are in the bitmap, walking the index already in the requested order
+     * and stopping once all of them were found
+     * @param ordinals ordinals of the students
+     * @param byNumber true to sort them by number, false by alphabetic order
+     * @return student iterator in the requested order
+     */
+    private Iterator<StudentGetter> getStudents(RoaringBitmap ordinals, boolean byNumber){
+        Iterator<StudentGetter> students = byNumber ? studentsSortedByNumber.values() : studentsByAlphabeticOrder.values();
+        return Pipeline.of(students)
+                .filter(s -> ordinals.contains(((Student) s).getOrdinal()))
+                .limit(ordinals.cardinality());
+    }
+
+    @Override
+    public Iterator<StudentGetter> getStudentsByPrefix(String prefix){
+        return studentsNamePrefix.prefixValues(prefix.toLowerCase());
     }
 
     @Override
@@ -161,6 +228,7 @@ public class SubjectClass implements Subject, Serializable {
         Component c = components.get(component.toLowerCase());
         Assignment assignment = new AssignmentClass(name, weight, c);
         assignments.put(name.toLowerCase(), assignment);
+        studentsGraded.put(name.toLowerCase(), new RoaringBitmap());
         return c.addAssignment(assignment);
     }
 
@@ -169,13 +237,27 @@ public class SubjectClass implements Subject, Serializable {
     public void addStudent(int id, String name) throws StudentAlreadyExists, SubjectNotDefined {
         if (!isSubjectDefined())
             throw new SubjectNotDefined();
-        if (studentsNumber.get(id) != null || studentsName.get(name) != null)
+        if (studentsNumber.containsKey(id) || studentsName.get(name) != null)
             throw new StudentAlreadyExists();
-        Student student =  new StudentClass(name, id, components.size(), components.iterator());
-        studentsNumber.put(id, student);
+        Student student =  new StudentClass(name, id, studentsByOrdinal.size(), components.size(), components.iterator());
+        indexStudent(student);
+    }
+
+    /**
+     * Adds the student to every map, list and bitmap where the students are kept
+     * @param student student, whose ordinal is the number of students before him
+     */
+    private void indexStudent(Student student) {
+        String name = student.getName();
+        // an empty name has no prefix to be found by
+        if (!name.isEmpty())
+            studentsNamePrefix.put(name.toLowerCase(), student);
+        studentsNumber.put(student.getNumber(), student);
         studentsName.put(name.toLowerCase(), student);
         studentsByAlphabeticOrder.put(name, student);
-        studentsSortedByNumber.put(id, student);
+        studentsSortedByNumber.put(student.getNumber(), student);
+        studentsByOrdinal.addLast(student);
+        updateStatus(student);
     }
 
     @Override
@@ -190,6 +272,66 @@ public class SubjectClass implements Subject, Serializable {
         if (grade < 0 || grade > 20)
             throw new InvalidGrade();
         s.setGrade(grade, a);
+        studentsGraded.get(assignment.toLowerCase()).add(s.getOrdinal());
+        updateStatus(s);
+    }
+
+    /**
+     * Updates the student's bits for attendance and approval after his grades change
+     * @param student student
+     */
+    private void updateStatus(Student student) {
+        if (student.hasAttendance())
+            studentsWithAttendance.add(student.getOrdinal());
+        else
+            studentsWithAttendance.remove(student.getOrdinal());
+        if (student.hasPassed())
+            studentsFailed.remove(student.getOrdinal());
+        else
+            studentsFailed.add(student.getOrdinal());
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = ois.readFields();
+        name = (String) fields.get("name", null);
+        totalWeight = fields.get("totalWeight", 0);
+        componentList = (List<ComponentGetter>) fields.get("componentList", null);
+        studentsByOrdinal = (List<StudentGetter>) fields.get("studentsByOrdinal", null);
+        if (studentsByOrdinal != null) {
+            components = (Map<String, Component>) fields.get("components", null);
+            assignments = (Map<String, Assignment>) fields.get("assignments", null);
+            studentsNumber = (IntObjectMap<Student>) fields.get("studentsNumber", null);
+            studentsName = (Map<String, Student>) fields.get("studentsName", null);
+            studentsNamePrefix = (TernarySearchTree<StudentGetter>) fields.get("studentsNamePrefix", null);
+            studentsByAlphabeticOrder = (SortedMap<String, StudentGetter>) fields.get("studentsByAlphabeticOrder", null);
+            studentsSortedByNumber = (IntSortedMap<StudentGetter>) fields.get("studentsSortedByNumber", null);
+            studentsWithAttendance = (RoaringBitmap) fields.get("studentsWithAttendance", null);
+            studentsFailed = (RoaringBitmap) fields.get("studentsFailed", null);
+            studentsGraded = (Map<String, RoaringBitmap>) fields.get("studentsGraded", null);
+            return;
+        }
+        // older files kept the students in boxed maps, without ordinals or bitmaps, so they are indexed again
+        components = new CompactHashTable<>(componentList.size());
+        ((Map<String, Component>) fields.get("components", null)).forEachEntry(components::put);
+        assignments = new ReadMostlyHashTable<>(componentList.size()*2);
+        ((Map<String, Assignment>) fields.get("assignments", null)).forEachEntry(assignments::put);
+        studentsGraded = new ReadMostlyHashTable<>(componentList.size()*2);
+        Iterator<String> assignmentNames = assignments.keys();
+        while (assignmentNames.hasNext())
+            studentsGraded.put(assignmentNames.next(), new RoaringBitmap());
+        createStudentIndexes();
+        Iterator<StudentGetter> it = ((SortedMap<Integer, StudentGetter>) fields.get("studentsSortedByNumber", null)).values();
+        while (it.hasNext()) {
+            Student student = (Student) it.next();
+            student.setOrdinal(studentsByOrdinal.size());
+            indexStudent(student);
+            assignments.forEachEntry((assignmentName, assignment) -> {
+                if (student.getAssignmentGrade(assignment) != -1)
+                    studentsGraded.get(assignmentName).add(student.getOrdinal());
+            });
+        }
     }
 
 }